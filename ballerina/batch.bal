@@ -0,0 +1,121 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents many Avro encoded values packed into one byte array.
+#
+# + data - The Avro encoded values, one after the other
+# + offsets - The index of the first byte of each value in `data`
+public type Batch record {|
+    byte[] data;
+    int[] offsets;
+|};
+
+# Serializes many values according to an Avro schema into one buffer.
+public class BatchWriter {
+
+    # Creates a batch writer for the given schema.
+    #
+    # ```ballerina
+    # avro:BatchWriter writer = new (schema);
+    # ```
+    #
+    # + schema - The Avro schema of the values
+    public isolated function init(Schema schema) {
+        self.initBatchWriter(schema);
+    }
+
+    isolated function initBatchWriter(Schema schema) = @java:Method {
+        'class: "io.ballerina.lib.avro.batch.BatchWriter"
+    } external;
+
+    # Serializes the given value and appends it to the batch.
+    #
+    # ```ballerina
+    # check writer.add(student);
+    # ```
+    #
+    # + data - The data to be serialized
+    # + return - An `avro:Error` if the data cannot be serialized or else `()`
+    public isolated function add(anydata data) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.batch.BatchWriter"
+    } external;
+
+    # Returns the number of values in the batch.
+    #
+    # + return - The number of values
+    public isolated function size() returns int = @java:Method {
+        'class: "io.ballerina.lib.avro.batch.BatchWriter"
+    } external;
+
+    # Returns the serialized values of the batch and their offsets.
+    #
+    # ```ballerina
+    # avro:Batch batch = writer.toBatch();
+    # ```
+    #
+    # + return - The batch
+    public isolated function toBatch() returns Batch = @java:Method {
+        'class: "io.ballerina.lib.avro.batch.BatchWriter"
+    } external;
+
+    # Removes all the values from the batch, so that the writer can be reused.
+    public isolated function reset() = @java:Method {
+        'class: "io.ballerina.lib.avro.batch.BatchWriter"
+    } external;
+}
+
+# Deserializes the values of an `avro:Batch` on demand.
+public class BatchReader {
+
+    # Creates a batch reader for the given schema and batch.
+    #
+    # ```ballerina
+    # avro:BatchReader reader = new (schema, batch);
+    # ```
+    #
+    # + schema - The Avro schema of the values
+    # + batch - The batch written by an `avro:BatchWriter`
+    public isolated function init(Schema schema, Batch batch) {
+        self.initBatchReader(schema, batch);
+    }
+
+    isolated function initBatchReader(Schema schema, Batch batch) = @java:Method {
+        'class: "io.ballerina.lib.avro.batch.BatchReader"
+    } external;
+
+    # Returns the number of values in the batch.
+    #
+    # + return - The number of values
+    public isolated function length() returns int = @java:Method {
+        'class: "io.ballerina.lib.avro.batch.BatchReader"
+    } external;
+
+    # Deserializes the value at the given index to the given data type.
+    #
+    # ```ballerina
+    # Student student = check reader.get(0);
+    # ```
+    #
+    # + index - The index of the value in the batch
+    # + targetType - Default parameter use to infer the user specified type
+    # + return - A deserialized data with the given type or else an `avro:Error`
+    public isolated function get(int index, typedesc<anydata> targetType = <>)
+        returns targetType|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.batch.BatchReader"
+    } external;
+}
@@ -0,0 +1,169 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+
+const int CHANNEL_BATCH_SIZE = 256;
+const int CHANNEL_READ_SIZE = 8192;
+
+# Represents how the Avro encoded values are separated in a byte channel.
+public enum Framing {
+    # Each value is preceded by its length in bytes, encoded as an Avro `long`
+    LENGTH_PREFIXED,
+    # The values are written one after the other without a separator
+    RAW
+}
+
+type StreamPart record {|
+    stream<anydata, error?> items;
+    handle encoder;
+|};
+
+class DatumStream {
+    private final Schema schema;
+    private final io:ReadableByteChannel channel;
+    private final typedesc<anydata> targetType;
+    private final handle reader;
+    private boolean isEndOfChannel = false;
+
+    isolated function init(Schema schema, io:ReadableByteChannel channel, typedesc<anydata> targetType,
+            Framing framing) {
+        self.schema = schema;
+        self.channel = channel;
+        self.targetType = targetType;
+        self.reader = newFrameReader(schema, framing);
+    }
+
+    public isolated function next() returns record {|anydata value;|}|Error? {
+        while true {
+            if check nextFrame(self.reader) {
+                anydata value = check decodeFrame(self.schema, self.reader, self.targetType);
+                return {value};
+            }
+            if self.isEndOfChannel {
+                if hasRemainingFrameData(self.reader) {
+                    return error Error("The channel ended in the middle of an Avro encoded value");
+                }
+                return;
+            }
+            byte[]|io:Error data = self.channel.read(CHANNEL_READ_SIZE);
+            if data is io:EofError {
+                self.isEndOfChannel = true;
+            } else if data is io:Error {
+                return error Error("Failed to read from the channel", data);
+            } else {
+                appendFrameData(self.reader, data);
+            }
+        }
+    }
+
+    public isolated function close() returns Error? {
+        io:Error? result = self.channel.close();
+        if result is io:Error {
+            return error Error("Failed to close the channel", result);
+        }
+    }
+}
+
+isolated function writeToChannel(io:WritableByteChannel channel, byte[] content) returns Error? {
+    int offset = 0;
+    while offset < content.length() {
+        int|io:Error written = channel.write(content, offset);
+        if written is io:Error {
+            return error Error("Failed to write to the channel", written);
+        }
+        offset += written;
+    }
+}
+
+isolated function writeItems(io:WritableByteChannel channel, StreamPart part) returns Error? {
+    anydata[] batch = [];
+    while true {
+        record {|anydata value;|}|error? next = part.items.next();
+        if next is error {
+            return error Error("Failed to read the values to be serialized", next);
+        }
+        if next is () {
+            break;
+        }
+        batch.push(next.value);
+        if batch.length() == CHANNEL_BATCH_SIZE {
+            check writeToChannel(channel, check encodeBlock(part.encoder, batch));
+            batch = [];
+        }
+    }
+    if batch.length() > 0 {
+        check writeToChannel(channel, check encodeBlock(part.encoder, batch));
+    }
+    check writeToChannel(channel, [0]);
+}
+
+isolated function getStreams(any data) returns stream<anydata, error?>[] {
+    if data is stream<anydata, error?> {
+        return [data];
+    }
+    stream<anydata, error?>[] streams = [];
+    if data is map<any> {
+        foreach any value in data {
+            if value is stream<anydata, error?> {
+                streams.push(value);
+            }
+        }
+    }
+    return streams;
+}
+
+isolated function closeStreams(stream<anydata, error?>[] streams, Error? result) returns Error? {
+    error? closeResult = ();
+    foreach stream<anydata, error?> data in streams {
+        error? closed = data.close();
+        if closeResult is () {
+            closeResult = closed;
+        }
+    }
+    if result is Error {
+        return result;
+    }
+    if closeResult is error {
+        return error Error("Failed to close the values to be serialized", closeResult);
+    }
+}
+
+isolated function encodeBlock(handle encoder, anydata[] items) returns byte[]|Error = @java:Method {
+    'class: "io.ballerina.lib.avro.channel.ChannelUtils"
+} external;
+
+isolated function newFrameReader(Schema schema, Framing framing) returns handle = @java:Method {
+    'class: "io.ballerina.lib.avro.channel.ChannelUtils"
+} external;
+
+isolated function appendFrameData(handle reader, byte[] data) = @java:Method {
+    'class: "io.ballerina.lib.avro.channel.ChannelUtils"
+} external;
+
+isolated function hasRemainingFrameData(handle reader) returns boolean = @java:Method {
+    'class: "io.ballerina.lib.avro.channel.ChannelUtils"
+} external;
+
+isolated function nextFrame(handle reader) returns boolean|Error = @java:Method {
+    'class: "io.ballerina.lib.avro.channel.ChannelUtils"
+} external;
+
+isolated function decodeFrame(Schema schema, handle reader, typedesc<anydata> targetType)
+    returns anydata|Error = @java:Method {
+    'class: "io.ballerina.lib.avro.channel.ChannelUtils"
+} external;
@@ -0,0 +1,43 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents a preset dictionary used to compress each serialized value on its own.
+#
+# + id - The identifier of the dictionary, from `0` to `65535`, written in the header of each compressed value
+# + content - The content of the dictionary, of which only the last 32 KiB are used
+public type Dictionary record {|
+    int id;
+    byte[] content;
+|};
+
+# Builds a compression dictionary from a sample of serialized values. The dictionary holds the byte sequences that
+# are repeated across the samples, such as the common string values.
+#
+# ```ballerina
+# avro:Dictionary dictionary = check avro:trainDictionary(samples, 1);
+# avro:Schema schema = check new(schemaText, dictionary = dictionary);
+# ```
+#
+# + samples - The values serialized with the `toAvro` API of a schema without a dictionary
+# + id - The identifier of the dictionary, from `0` to `65535`
+# + maxSize - The maximum size of the dictionary in bytes, up to 32 KiB
+# + return - The dictionary or else an `avro:Error`, also if no byte sequence is repeated across the samples
+public isolated function trainDictionary(byte[][] samples, int id, int maxSize = 4096)
+        returns Dictionary|Error = @java:Method {
+    'class: "io.ballerina.lib.avro.Avro"
+} external;
@@ -16,10 +16,47 @@
 
 import ballerina/jballerina.java;
 
+# The number of `toAvro` or `fromAvro` calls on an `avro:Schema` that are served before the encoding and decoding of
+# that schema are specialized. A negative value disables the specialization.
+configurable int planCompilationThreshold = 8;
+
+# The number of parsed schemas kept in the process-wide schema cache. A value of `0` disables the cache.
+configurable int schemaCacheSize = 256;
+
+# The maximum size of a value decompressed with a dictionary, as a multiple of the size of the compressed value. A
+# value of `0` or less removes the limit.
+configurable int maxDecompressionRatio = 256;
+
+# The time in seconds from which a phase of an encode or decode call is recorded as a Java Flight Recorder event.
+configurable decimal flightRecorderLatencyThreshold = 0.02;
+
+# The payload size in bytes from which a phase of an encode or decode call is recorded as a Java Flight Recorder event.
+configurable int flightRecorderSizeThreshold = 1048576;
+
 function init() {
     setModule();
+    setPlanCompilationThreshold(planCompilationThreshold);
+    setSchemaCacheSize(schemaCacheSize);
+    setMaxDecompressionRatio(maxDecompressionRatio);
+    setFlightRecorderThresholds(<int>(flightRecorderLatencyThreshold * 1000000000d), flightRecorderSizeThreshold);
 }
 
 function setModule() = @java:Method {
     'class: "io.ballerina.lib.avro.ModuleUtils"
 } external;
+
+function setPlanCompilationThreshold(int threshold) = @java:Method {
+    'class: "io.ballerina.lib.avro.ModuleUtils"
+} external;
+
+function setSchemaCacheSize(int size) = @java:Method {
+    'class: "io.ballerina.lib.avro.ModuleUtils"
+} external;
+
+function setMaxDecompressionRatio(int ratio) = @java:Method {
+    'class: "io.ballerina.lib.avro.ModuleUtils"
+} external;
+
+function setFlightRecorderThresholds(int latency, int size) = @java:Method {
+    'class: "io.ballerina.lib.avro.ModuleUtils"
+} external;
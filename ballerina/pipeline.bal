@@ -0,0 +1,122 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# The default number of values that `encodeStream` and `decodeStream` convert at the same time.
+const int DEFAULT_STREAM_PARALLELISM = 4;
+
+class EncodeStream {
+    private final Schema schema;
+    private final stream<readonly & anydata, error?> input;
+    private final int parallelism;
+    // The conversions in progress, in the order of the input values.
+    private final future<byte[]|Error>[] pending = [];
+    private boolean isEndOfInput = false;
+
+    isolated function init(Schema schema, stream<readonly & anydata, error?> input, int parallelism) {
+        self.schema = schema;
+        self.input = input;
+        self.parallelism = int:max(parallelism, 1);
+    }
+
+    public isolated function next() returns record {|byte[] value;|}|Error? {
+        final Schema schema = self.schema;
+        while !self.isEndOfInput && self.pending.length() < self.parallelism {
+            record {|readonly & anydata value;|}|error? next = self.input.next();
+            if next is error {
+                return error Error("Failed to read the values to be serialized", next);
+            }
+            if next is () {
+                self.isEndOfInput = true;
+                break;
+            }
+            final readonly & anydata value = next.value;
+            future<byte[]|Error> result = @strand {thread: "any"} start schema.toAvro(value);
+            self.pending.push(result);
+        }
+        if self.pending.length() == 0 {
+            return;
+        }
+        future<byte[]|Error> result = self.pending.shift();
+        byte[] value = check wait result;
+        return {value};
+    }
+
+    public isolated function close() returns Error? {
+        // The values that are still being converted are no longer read.
+        foreach future<byte[]|Error> result in self.pending {
+            result.cancel();
+        }
+        self.pending.removeAll();
+        error? result = self.input.close();
+        if result is error {
+            return error Error("Failed to close the input stream", result);
+        }
+    }
+}
+
+class DecodeStream {
+    private final Schema schema;
+    private final stream<readonly & byte[], error?> input;
+    private final typedesc<anydata> targetType;
+    private final int parallelism;
+    // The conversions in progress, in the order of the input values.
+    private final future<anydata|Error>[] pending = [];
+    private boolean isEndOfInput = false;
+
+    isolated function init(Schema schema, stream<readonly & byte[], error?> input, typedesc<anydata> targetType,
+            int parallelism) {
+        self.schema = schema;
+        self.input = input;
+        self.targetType = targetType;
+        self.parallelism = int:max(parallelism, 1);
+    }
+
+    public isolated function next() returns record {|anydata value;|}|Error? {
+        final Schema schema = self.schema;
+        final typedesc<anydata> targetType = self.targetType;
+        while !self.isEndOfInput && self.pending.length() < self.parallelism {
+            record {|readonly & byte[] value;|}|error? next = self.input.next();
+            if next is error {
+                return error Error("Failed to read the values to be deserialized", next);
+            }
+            if next is () {
+                self.isEndOfInput = true;
+                break;
+            }
+            final readonly & byte[] data = next.value;
+            future<anydata|Error> result = @strand {thread: "any"} start schema.fromAvro(data, targetType);
+            self.pending.push(result);
+        }
+        if self.pending.length() == 0 {
+            return;
+        }
+        future<anydata|Error> result = self.pending.shift();
+        anydata value = check wait result;
+        return {value};
+    }
+
+    public isolated function close() returns Error? {
+        // The values that are still being converted are no longer read.
+        foreach future<anydata|Error> result in self.pending {
+            result.cancel();
+        }
+        self.pending.removeAll();
+        error? result = self.input.close();
+        if result is error {
+            return error Error("Failed to close the input stream", result);
+        }
+    }
+}
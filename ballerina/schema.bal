@@ -14,9 +14,61 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/io;
 import ballerina/jballerina.java;
 
-public class Schema {
+# Represents the options of an `avro:Schema`.
+#
+# + dictionary - The dictionary used to compress the values returned by `toAvro` and to decompress the values given
+#                to `fromAvro`. Values are not compressed if a dictionary is not given
+# + decodeCacheSize - The number of values deserialized to `readonly` types by `fromAvro` that are kept, so that the
+#                     same value is returned for repeated data instead of deserializing it again. A value of `0`
+#                     disables the cache
+public type SchemaOptions record {|
+    Dictionary dictionary?;
+    int decodeCacheSize = 0;
+|};
+
+# Represents the statistics of the cache of deserialized values of an `avro:Schema`.
+#
+# + hits - The number of `fromAvro` calls that returned a cached value
+# + misses - The number of `fromAvro` calls to a `readonly` type that deserialized the data
+# + evictions - The number of values removed from the cache to stay within the `decodeCacheSize`
+# + size - The number of values in the cache
+public type DecodeCacheStatistics record {|
+    int hits;
+    int misses;
+    int evictions;
+    int size;
+|};
+
+# Represents a value of a record field that is kept in its Avro binary encoding. When a field of the target type of
+# `fromAvro` is an `avro:Raw`, the value of the field is not deserialized, and `toAvro` writes the bytes of an
+# `avro:Raw` field as they are.
+#
+# + bytes - The Avro binary encoding of the value, according to the schema of the field
+public type Raw record {|
+    readonly & byte[] bytes;
+|};
+
+# Represents the bytes taken by the values at a path of an Avro schema in a set of serialized values.
+#
+# + path - The path of the values. The serialized value is `$`, a record field appends `.` and the name of the field,
+#          the items of an array append `[]`, and the values of a map append `{}`. The index of a union is counted in
+#          the value it selects
+# + count - The number of values at the path
+# + bytes - The number of bytes taken by the values at the path, including the values nested in them
+# + items - The number of items in the arrays or maps at the path
+# + length - The number of bytes of the `string` or `bytes` values at the path, without their length prefixes
+public type FieldProfile record {|
+    string path;
+    int count;
+    int bytes;
+    int items;
+    int length;
+|};
+
+public isolated class Schema {
 
     # Generates a schema for a given data type.
     #
@@ -25,12 +77,40 @@ public class Schema {
     # ```
     #
     # + schema - The Avro schema string
-    # + return - An `avro:Error` if the schema is not valid or else `()`
-    public isolated function init(string schema) returns Error? {
-        self.generateSchema(schema);
+    # + options - The options of the schema
+    # + return - An `avro:Error` if the schema or the options are not valid or else `()`
+    public isolated function init(string schema, *SchemaOptions options) returns Error? {
+        check self.generateSchema(schema);
+        Dictionary? dictionary = options.dictionary;
+        if dictionary !is () {
+            check self.setDictionary(dictionary);
+        }
+        check self.setDecodeCacheSize(options.decodeCacheSize);
     }
 
-    isolated function generateSchema(string schema) = @java:Method {
+    isolated function generateSchema(string schema) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    isolated function setDictionary(Dictionary dictionary) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    isolated function setDecodeCacheSize(int size) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Returns the statistics of the cache of deserialized values of this schema, which is enabled with the
+    # `decodeCacheSize` option.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`,
+    #     decodeCacheSize = 1024);
+    # avro:DecodeCacheStatistics statistics = schema.getDecodeCacheStatistics();
+    # ```
+    #
+    # + return - The statistics of the cache
+    public isolated function getDecodeCacheStatistics() returns DecodeCacheStatistics = @java:Method {
         'class: "io.ballerina.lib.avro.Avro"
     } external;
 
@@ -48,6 +128,48 @@ public class Schema {
         'class: "io.ballerina.lib.avro.Avro"
     } external;
 
+    # Checks whether the given data can be serialized according to the Avro format, without serializing it.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # check schema.validate(5);
+    # ```
+    #
+    # + data - The data to be validated
+    # + return - An `avro:Error` if the data does not match the schema, or else `()`
+    public isolated function validate(anydata data) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Returns the number of bytes the given data takes when serialized according to the Avro format, without
+    # serializing it.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # int size = check schema.encodedSize(5);
+    # ```
+    #
+    # + data - The data to be measured
+    # + return - The size of the serialized data in bytes, before any compression, or else an `avro:Error`
+    public isolated function encodedSize(anydata data) returns int|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Reports the bytes taken by the values at each path of the schema in the given Avro encoded messages, without
+    # deserializing them. The paths are returned in the order they first appear in the messages.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # byte[][] samples = // Avro encoded messages ;
+    # avro:FieldProfile[] profiles = check schema.profile(samples);
+    # ```
+    #
+    # + samples - The Avro serialized data
+    # + return - The bytes taken at each path or else an `avro:Error` if a message does not match the schema
+    public isolated function profile(byte[][] samples) returns FieldProfile[]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
     # Deserializes the given Avro encoded message to the given data type.
     #
     # ```ballerina
@@ -63,4 +185,232 @@ public class Schema {
         returns targetType|Error = @java:Method {
         'class: "io.ballerina.lib.avro.Avro"
     } external;
+
+    # Deserializes the Avro encoded message held in a part of the given data to the given data type, without copying
+    # that part of the data.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # byte[] frame = // A header of 4 bytes followed by the Avro encoded message ;
+    # int deserializedData = check schema.fromAvroSlice(frame, 4, frame.length() - 4);
+    # ```
+    #
+    # + data - The data holding the Avro serialized message
+    # + offset - The index of the first byte of the message in `data`
+    # + length - The length of the message in bytes
+    # + targetType - Default parameter use to infer the user specified type
+    # + return - A deserialized data with the given type or else an `avro:Error`
+    public isolated function fromAvroSlice(byte[] data, int offset, int length, typedesc<anydata> targetType = <>)
+        returns targetType|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Prepares the schema for serializing data and for deserializing data to the given type, so that the first
+    # `toAvro` and `fromAvro` calls do not pay for the preparation. Optionally, a sample value of the schema that the
+    # given type accepts is deserialized and serialized again to warm up both operations. The warm-up is skipped if
+    # the schema has no such value.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # check schema.prepare(int, warmUp = true);
+    # ```
+    #
+    # + targetType - The type to which the data will be deserialized
+    # + warmUp - Whether to warm up the schema with a sample value
+    # + return - An `avro:Error` if the warm-up fails or else `()`
+    public isolated function prepare(typedesc<anydata> targetType = anydata, boolean warmUp = false)
+        returns Error? = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Serializes the given values according to the Avro format and writes them to the given channel. The values are
+    # serialized in batches directly into the buffer that is written to the channel. A stream of values is closed once
+    # it has been read. The values are not compressed, so a schema with a compression dictionary cannot be used.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # io:WritableByteChannel channel = check io:openWritableFile("values.avro");
+    # check schema.toChannel(channel, [1, 2, 3]);
+    # ```
+    #
+    # + channel - The channel to write the serialized values to
+    # + data - The values to be serialized
+    # + framing - How the serialized values are separated in the channel
+    # + return - An `avro:Error` if a value cannot be serialized or the channel cannot be written, or else `()`
+    public isolated function toChannel(io:WritableByteChannel channel, anydata[]|stream<anydata, error?> data,
+            Framing framing = LENGTH_PREFIXED) returns Error? {
+        if data is anydata[] {
+            int offset = 0;
+            while offset < data.length() {
+                int end = int:min(offset + CHANNEL_BATCH_SIZE, data.length());
+                check writeToChannel(channel, check self.encodeFrames(data.slice(offset, end), framing));
+                offset = end;
+            }
+            return;
+        }
+        return closeStreams([data], self.writeFrames(channel, data, framing));
+    }
+
+    isolated function writeFrames(io:WritableByteChannel channel, stream<anydata, error?> data, Framing framing)
+            returns Error? {
+        anydata[] batch = [];
+        while true {
+            record {|anydata value;|}|error? next = data.next();
+            if next is error {
+                return error Error("Failed to read the values to be serialized", next);
+            }
+            if next is () {
+                break;
+            }
+            batch.push(next.value);
+            if batch.length() == CHANNEL_BATCH_SIZE {
+                check writeToChannel(channel, check self.encodeFrames(batch, framing));
+                batch = [];
+            }
+        }
+        if batch.length() > 0 {
+            check writeToChannel(channel, check self.encodeFrames(batch, framing));
+        }
+    }
+
+    # Serializes the given value according to the Avro format and writes it to the given channel. An array or a map
+    # of the value can be given as a stream of its items, either as the whole value or as a field of a record value.
+    # The items of a map are given as `[key, value]` tuples. The items are serialized and written to the channel in
+    # blocks as they are read from the stream, so the array or the map is never held in memory as a whole. The streams
+    # are closed once the value is written, and also when it cannot be serialized or written. As with `toChannel`, a
+    # schema with a compression dictionary cannot be used.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "array", "items": "int", "name" : "data", "namespace": "example.avro" }`);
+    # io:WritableByteChannel channel = check io:openWritableFile("value.avro");
+    # check schema.encodeIncrementally(channel, values);
+    # ```
+    #
+    # + channel - The channel to write the serialized value to
+    # + data - The value to be serialized, in which arrays or maps can be given as streams
+    # + return - An `avro:Error` if the value cannot be serialized or the channel cannot be written, or else `()`
+    public isolated function encodeIncrementally(io:WritableByteChannel channel, any data) returns Error? {
+        if data is anydata {
+            // Written as a single unframed value, so that a schema with a dictionary is rejected as with streams.
+            return writeToChannel(channel, check self.encodeFrames([data], RAW));
+        }
+        return closeStreams(getStreams(data), self.writeIncrementally(channel, data));
+    }
+
+    isolated function writeIncrementally(io:WritableByteChannel channel, any data) returns Error? {
+        foreach any part in check self.splitIncremental(data) {
+            if part is StreamPart {
+                check writeItems(channel, part);
+            } else if part is byte[] {
+                check writeToChannel(channel, part);
+            }
+        }
+    }
+
+    isolated function splitIncremental(any data) returns any[]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.channel.ChannelUtils"
+    } external;
+
+    # Reads the Avro encoded values written to the given channel by `toChannel` as a stream of the given data type.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # io:ReadableByteChannel channel = check io:openReadableFile("values.avro");
+    # stream<int, avro:Error?> values = schema.fromChannel(channel);
+    # ```
+    #
+    # + channel - The channel to read the serialized values from
+    # + targetType - Default parameter use to infer the user specified type
+    # + framing - How the serialized values are separated in the channel
+    # + return - A stream of the deserialized values. The stream closes the channel when it is closed
+    public isolated function fromChannel(io:ReadableByteChannel channel, typedesc<anydata> targetType = <>,
+            Framing framing = LENGTH_PREFIXED) returns stream<targetType, Error?> = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    isolated function encodeFrames(anydata[] data, Framing framing) returns byte[]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Serializes the values of the given stream according to the Avro format. Up to `parallelism` values are
+    # serialized at the same time, and the serialized values are returned in the order of the given values. A value is
+    # only read from the given stream when the number of values being serialized drops below `parallelism`. The values
+    # are read-only, so that they are serialized on other strands without being copied.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # stream<byte[], avro:Error?> serializedValues = schema.encodeStream(values);
+    # ```
+    #
+    # + data - The values to be serialized
+    # + parallelism - The maximum number of values serialized at the same time
+    # + return - A stream of the serialized values
+    public isolated function encodeStream(stream<readonly & anydata, error?> data,
+            int parallelism = DEFAULT_STREAM_PARALLELISM) returns stream<byte[], Error?> {
+        return new stream<byte[], Error?>(new EncodeStream(self, data, parallelism));
+    }
+
+    # Deserializes the Avro encoded values of the given stream to the given data type. Up to `parallelism` values are
+    # deserialized at the same time, and the deserialized values are returned in the order of the given values. A
+    # value is only read from the given stream when the number of values being deserialized drops below
+    # `parallelism`. The values are read-only, so that they are deserialized on other strands without being copied.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # stream<int, avro:Error?> values = schema.decodeStream(serializedValues);
+    # ```
+    #
+    # + data - The Avro serialized values
+    # + targetType - Default parameter use to infer the user specified type
+    # + parallelism - The maximum number of values deserialized at the same time
+    # + return - A stream of the deserialized values
+    public isolated function decodeStream(stream<readonly & byte[], error?> data, typedesc<anydata> targetType = <>,
+            int parallelism = DEFAULT_STREAM_PARALLELISM) returns stream<targetType, Error?> = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Transcodes the given Avro encoded message into the Avro JSON encoding without deserializing it.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # byte[] data = // Avro encoded message ;
+    # byte[] json = check schema.toJsonBytes(data);
+    # ```
+    #
+    # + avro - The Avro serialized data
+    # + return - A `byte` array of the JSON text or else an `avro:Error`
+    public isolated function toJsonBytes(byte[] avro) returns byte[]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Transcodes the given JSON text in the Avro JSON encoding into an Avro encoded message without deserializing it.
+    #
+    # ```ballerina
+    # avro:Schema schema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # byte[] data = check schema.fromJsonBytes("5".toBytes());
+    # ```
+    #
+    # + json - The JSON text in the Avro JSON encoding
+    # + return - A `byte` array of the Avro serialized data or else an `avro:Error`
+    public isolated function fromJsonBytes(byte[] json) returns byte[]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
+
+    # Rewrites the given Avro encoded message from the layout of the given writer schema to the layout of this schema
+    # without deserializing it. Fields added in this schema are filled with their default values and fields removed
+    # from this schema are dropped.
+    #
+    # ```ballerina
+    # avro:Schema oldSchema = check new(string `{"type": "int", "name" : "data", "namespace": "example.avro" }`);
+    # avro:Schema schema = check new(string `{"type": "long", "name" : "data", "namespace": "example.avro" }`);
+    # byte[] data = // Avro encoded message written with the old schema ;
+    # byte[] migratedData = check schema.migrate(data, oldSchema);
+    # ```
+    #
+    # + data - The Avro serialized data
+    # + writerSchema - The schema that was used to serialize the data
+    # + return - A `byte` array of the data serialized according to this schema or else an `avro:Error`
+    public isolated function migrate(byte[] data, Schema writerSchema) returns byte[]|Error = @java:Method {
+        'class: "io.ballerina.lib.avro.Avro"
+    } external;
 }
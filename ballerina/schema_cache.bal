@@ -0,0 +1,41 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the statistics of the process-wide schema cache.
+#
+# + hits - The number of `avro:Schema` objects created from an already parsed schema
+# + misses - The number of `avro:Schema` objects whose schema had to be parsed
+# + evictions - The number of schemas removed from the cache to stay within the `schemaCacheSize`
+# + size - The number of schemas in the cache
+public type SchemaCacheStatistics record {|
+    int hits;
+    int misses;
+    int evictions;
+    int size;
+|};
+
+# Returns the statistics of the process-wide schema cache.
+#
+# ```ballerina
+# avro:SchemaCacheStatistics statistics = avro:getSchemaCacheStatistics();
+# ```
+#
+# + return - The statistics of the schema cache
+public isolated function getSchemaCacheStatistics() returns SchemaCacheStatistics = @java:Method {
+    'class: "io.ballerina.lib.avro.Avro"
+} external;
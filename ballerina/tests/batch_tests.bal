@@ -0,0 +1,71 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["batch", "record"]
+}
+public isolated function testBatchWriterAndReader() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    BatchWriter writer = new (avro);
+    Student[] students = from int i in 0 ..< 50 select {name: string `student ${i}`, subject: "math"};
+    foreach Student student in students {
+        check writer.add(student);
+    }
+    test:assertEquals(writer.size(), students.length());
+
+    Batch batch = writer.toBatch();
+    test:assertEquals(batch.offsets.length(), students.length());
+    test:assertEquals(batch.data.slice(batch.offsets[1], batch.offsets[2]), check avro.toAvro(students[1]));
+
+    BatchReader reader = new (avro, batch);
+    test:assertEquals(reader.length(), students.length());
+    Student student = check reader.get(49);
+    test:assertEquals(student, students[49]);
+    Student|Error outOfRange = reader.get(50);
+    test:assertTrue(outOfRange is Error);
+
+    writer.reset();
+    test:assertEquals(writer.size(), 0);
+}
+
+@test:Config {
+    groups: ["batch"]
+}
+public isolated function testBatchWriterWithInvalidValue() returns error? {
+    Schema avro = check new (string `{"type": "int", "name": "value"}`);
+    BatchWriter writer = new (avro);
+    check writer.add(1);
+    Error? result = writer.add("invalid");
+    test:assertTrue(result is Error);
+    check writer.add(2);
+
+    BatchReader reader = new (avro, writer.toBatch());
+    int first = check reader.get(0);
+    int second = check reader.get(1);
+    test:assertEquals([first, second], [1, 2]);
+}
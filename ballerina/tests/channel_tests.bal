@@ -0,0 +1,252 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+@test:Config {
+    groups: ["channel", "record"]
+}
+public isolated function testChannelWithLengthPrefixedFraming() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Student[] students = from int i in 0 ..< 600
+        select {name: string `student ${i}`, subject: i % 2 == 0 ? "science" : "math"};
+    Schema avro = check new (schema);
+
+    io:WritableByteChannel writableChannel = check io:openWritableFile("target/students.avro");
+    check avro.toChannel(writableChannel, students, LENGTH_PREFIXED);
+    check writableChannel.close();
+
+    io:ReadableByteChannel readableChannel = check io:openReadableFile("target/students.avro");
+    stream<Student, Error?> values = avro.fromChannel(readableChannel, framing = LENGTH_PREFIXED);
+    Student[] readStudents = check from Student student in values select student;
+    test:assertEquals(readStudents, students);
+}
+
+@test:Config {
+    groups: ["channel", "array"]
+}
+public isolated function testChannelWithRawFraming() returns error? {
+    string schema = string `
+        {
+            "type": "array",
+            "name": "numbers",
+            "items": "long"
+        }`;
+
+    int[][] numbers = [[1, 2, 3], [], [-1, 1000000000000], [42]];
+    Schema avro = check new (schema);
+
+    io:WritableByteChannel writableChannel = check io:openWritableFile("target/numbers.avro");
+    check avro.toChannel(writableChannel, numbers, RAW);
+    check writableChannel.close();
+
+    io:ReadableByteChannel readableChannel = check io:openReadableFile("target/numbers.avro");
+    stream<int[], Error?> values = avro.fromChannel(readableChannel, framing = RAW);
+    int[][] readNumbers = check from int[] value in values select value;
+    test:assertEquals(readNumbers, numbers);
+}
+
+@test:Config {
+    groups: ["channel"]
+}
+public isolated function testChannelWithStreamOfValues() returns error? {
+    string schema = string `{"type": "string", "name": "name"}`;
+    Schema avro = check new (schema);
+    string[] names = ["Liam", "Olivia", "Noah"];
+
+    io:WritableByteChannel writableChannel = check io:openWritableFile("target/names.avro");
+    check avro.toChannel(writableChannel, names.toStream());
+    check writableChannel.close();
+
+    io:ReadableByteChannel readableChannel = check io:openReadableFile("target/names.avro");
+    stream<string, Error?> values = avro.fromChannel(readableChannel);
+    string[] readNames = check from string name in values select name;
+    test:assertEquals(readNames, names);
+}
+
+@test:Config {
+    groups: ["channel", "record"]
+}
+public isolated function testEncodeIncrementally() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Readings",
+            "fields": [
+                {"name": "sensor", "type": "string"},
+                {"name": "values", "type": {"type": "array", "items": "long"}},
+                {"name": "labels", "type": ["null", {"type": "map", "values": "string"}]},
+                {"name": "unit", "type": "string"}
+            ]
+        }`;
+    Schema avro = check new (schema);
+    int[] values = from int i in 0 ..< 1000 select i * 7;
+    map<string> labels = {site: "north", rack: "r12"};
+
+    record {|
+        string sensor;
+        stream<int> values;
+        stream<[string, string]> labels;
+        string unit;
+    |} readings = {
+        sensor: "s-1",
+        values: values.toStream(),
+        labels: labels.entries().toArray().toStream(),
+        unit: "mV"
+    };
+    io:WritableByteChannel writableChannel = check io:openWritableFile("target/readings.avro");
+    check avro.encodeIncrementally(writableChannel, readings);
+    check writableChannel.close();
+
+    byte[] encoded = check io:fileReadBytes("target/readings.avro");
+    record {|string sensor; int[] values; map<string>? labels; string unit;|} decoded = check avro.fromAvro(encoded);
+    test:assertEquals(decoded, {sensor: "s-1", values, labels, unit: "mV"});
+}
+
+@test:Config {
+    groups: ["channel", "record"]
+}
+public isolated function testEncodeIncrementallyClosesStreams() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Samples",
+            "fields": [
+                {"name": "sensor", "type": "string"},
+                {"name": "counts", "type": {"type": "array", "items": "long"}},
+                {"name": "names", "type": {"type": "array", "items": "string"}}
+            ]
+        }`;
+    Schema avro = check new (schema);
+    io:WritableByteChannel writableChannel = check io:openWritableFile("target/samples.avro");
+
+    // The value cannot be split, as the sensor is not a string.
+    ClosableNames counts = new (3);
+    ClosableNames names = new (3);
+    record {|int sensor; stream<string, error?> counts; stream<string, error?> names;|} invalidSensor = {
+        sensor: 1,
+        counts: new (counts),
+        names: new (names)
+    };
+    Error? written = avro.encodeIncrementally(writableChannel, invalidSensor);
+    test:assertTrue(written is Error);
+    test:assertTrue(counts.isClosed());
+    test:assertTrue(names.isClosed());
+
+    // The items of the first stream are not of the type of the array, so the second stream is never read.
+    counts = new (3);
+    names = new (3);
+    record {|string sensor; stream<string, error?> counts; stream<string, error?> names;|} invalidCounts = {
+        sensor: "s-1",
+        counts: new (counts),
+        names: new (names)
+    };
+    written = avro.encodeIncrementally(writableChannel, invalidCounts);
+    test:assertTrue(written is Error);
+    test:assertTrue(counts.isClosed());
+    test:assertTrue(names.isClosed());
+    check writableChannel.close();
+}
+
+@test:Config {
+    groups: ["channel", "array"]
+}
+public isolated function testEncodeIncrementallyWithStreamOfItems() returns error? {
+    string schema = string `{"type": "array", "name": "names", "items": "string"}`;
+    Schema avro = check new (schema);
+    string[] names = from int i in 0 ..< 600 select string `name ${i}`;
+
+    io:WritableByteChannel writableChannel = check io:openWritableFile("target/names_array.avro");
+    check avro.encodeIncrementally(writableChannel, names.toStream());
+    check writableChannel.close();
+
+    byte[] encoded = check io:fileReadBytes("target/names_array.avro");
+    string[] decoded = check avro.fromAvro(encoded);
+    test:assertEquals(decoded, names);
+}
+
+@test:Config {
+    groups: ["channel", "compression"]
+}
+public isolated function testChannelWithDictionary() returns error? {
+    string schema = string `{"type": "string", "name": "name"}`;
+    string[] names = from int i in 0 ..< 20 select string `name ${i}`;
+    Schema plainAvro = check new (schema);
+    byte[][] samples = from string name in names select check plainAvro.toAvro(name);
+    Schema avro = check new (schema, dictionary = check trainDictionary(samples, 1));
+
+    io:WritableByteChannel writableChannel = check io:openWritableFile("target/compressed_names.avro");
+    Error? written = avro.toChannel(writableChannel, names);
+    test:assertTrue(written is Error);
+    ClosableNames closableNames = new (names.length());
+    Error? writtenIncrementally = avro.encodeIncrementally(writableChannel, new stream<string, error?>(closableNames));
+    test:assertTrue(writtenIncrementally is Error);
+    test:assertTrue(closableNames.isClosed());
+    Error? writtenValue = avro.encodeIncrementally(writableChannel, names[0]);
+    test:assertTrue(writtenValue is Error);
+    check writableChannel.close();
+
+    writableChannel = check io:openWritableFile("target/compressed_names.avro");
+    check plainAvro.toChannel(writableChannel, names);
+    check writableChannel.close();
+    io:ReadableByteChannel readableChannel = check io:openReadableFile("target/compressed_names.avro");
+    stream<string, Error?> values = avro.fromChannel(readableChannel);
+    string[]|Error readNames = from string name in values select name;
+    test:assertTrue(readNames is Error);
+}
+
+isolated class ClosableNames {
+
+    private final int count;
+    private int index = 0;
+    private boolean closed = false;
+
+    isolated function init(int count) {
+        self.count = count;
+    }
+
+    public isolated function next() returns record {|string value;|}|error? {
+        lock {
+            if self.index == self.count {
+                return ();
+            }
+            self.index += 1;
+            return {value: string `name ${self.index}`};
+        }
+    }
+
+    public isolated function close() returns error? {
+        lock {
+            self.closed = true;
+        }
+    }
+
+    isolated function isClosed() returns boolean {
+        lock {
+            return self.closed;
+        }
+    }
+}
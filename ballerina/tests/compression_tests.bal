@@ -0,0 +1,91 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/test;
+
+@test:Config {
+    groups: ["compression", "record"]
+}
+public isolated function testDictionaryCompression() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Schema plainAvro = check new (schema);
+    Student[] students = from int i in 0 ..< 50
+        select {name: string `student ${i}`, subject: "Introduction to distributed systems"};
+    byte[][] samples = from Student student in students select check plainAvro.toAvro(student);
+    Dictionary dictionary = check trainDictionary(samples, 42);
+    test:assertEquals(dictionary.id, 42);
+    test:assertTrue(dictionary.content.length() > 0);
+
+    Schema avro = check new (schema, dictionary = dictionary);
+    // Repeated, so that both the visitors and the compiled plans are used.
+    foreach Student student in students {
+        byte[] compressed = check avro.toAvro(student);
+        test:assertTrue(compressed.length() < (check plainAvro.toAvro(student)).length());
+        Student deserialized = check avro.fromAvro(compressed);
+        test:assertEquals(deserialized, student);
+    }
+
+    Student|Error uncompressed = avro.fromAvro(samples[0]);
+    test:assertTrue(uncompressed is Error);
+    Schema otherAvro = check new (schema, dictionary = {id: 7, content: dictionary.content});
+    Student|Error otherDictionary = otherAvro.fromAvro(check avro.toAvro(students[0]));
+    test:assertTrue(otherDictionary is Error);
+}
+
+@test:Config {
+    groups: ["compression"]
+}
+public isolated function testInvalidDictionary() returns error? {
+    string schema = string `{"type": "string", "name": "value"}`;
+    Schema|Error invalidId = new (schema, dictionary = {id: 70000, content: [1, 2, 3]});
+    test:assertTrue(invalidId is Error);
+    Schema|Error emptyContent = new (schema, dictionary = {id: 1, content: []});
+    test:assertTrue(emptyContent is Error);
+    Dictionary|Error invalidSize = trainDictionary([], 1, 0);
+    test:assertTrue(invalidSize is Error);
+}
+
+@test:Config {
+    groups: ["compression"]
+}
+public isolated function testDictionaryWithoutCommonBytes() returns error? {
+    Dictionary|Error dictionary = trainDictionary([[1, 2, 3], [4, 5, 6]], 1);
+    test:assertTrue(dictionary is Error);
+}
+
+@test:Config {
+    groups: ["compression"]
+}
+public isolated function testDecompressionLimit() returns error? {
+    string schema = string `{"type": "string", "name": "value"}`;
+    string value = "a";
+    foreach int _ in 0 ..< 17 {
+        value += value;
+    }
+    Schema avro = check new (schema, dictionary = {id: 1, content: "dictionary".toBytes()});
+    byte[] compressed = check avro.toAvro(value);
+    string|Error decompressed = avro.fromAvro(compressed);
+    test:assertTrue(decompressed is Error);
+    test:assertEquals(check avro.fromAvro(check avro.toAvro("dictionary value")), "dictionary value");
+}
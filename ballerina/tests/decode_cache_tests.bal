@@ -0,0 +1,59 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "readonly"]
+}
+public isolated function testDecodeCache() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Schema avro = check new (schema, decodeCacheSize = 2);
+    byte[] first = check avro.toAvro({name: "first", subject: "math"});
+    byte[] second = check avro.toAvro({name: "second", subject: "math"});
+    byte[] third = check avro.toAvro({name: "third", subject: "math"});
+
+    Student & readonly firstStudent = check avro.fromAvro(first);
+    Student & readonly cachedStudent = check avro.fromAvro(first.clone());
+    test:assertExactEquals(cachedStudent, firstStudent);
+    Student mutableStudent = check avro.fromAvro(first);
+    test:assertFalse(mutableStudent.isReadOnly());
+
+    Student & readonly _ = check avro.fromAvro(second);
+    Student & readonly _ = check avro.fromAvro(third);
+    test:assertEquals(avro.getDecodeCacheStatistics(), {hits: 1, misses: 3, evictions: 1, size: 2});
+
+    Schema uncachedAvro = check new (schema);
+    Student & readonly _ = check uncachedAvro.fromAvro(first);
+    test:assertEquals(uncachedAvro.getDecodeCacheStatistics(), {hits: 0, misses: 0, evictions: 0, size: 0});
+}
+
+@test:Config {
+    groups: ["record", "readonly"]
+}
+public isolated function testNegativeDecodeCacheSize() {
+    Schema|Error avro = new (string `{"type": "string"}`, decodeCacheSize = -1);
+    test:assertTrue(avro is Error);
+}
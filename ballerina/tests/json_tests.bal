@@ -0,0 +1,105 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["json", "record"]
+}
+public isolated function testAvroToJsonBytes() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": ["null", "string"]},
+                {"name": "marks", "type": {"type": "array", "items": "int"}}
+            ]
+        }`;
+
+    StudentMarks student = {
+        name: "Liam",
+        subject: "Maths",
+        marks: [75, 80]
+    };
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(student);
+    byte[] jsonValue = check avro.toJsonBytes(serializedValue);
+    json result = check (check string:fromBytes(jsonValue)).fromJsonString();
+    test:assertEquals(result, {name: "Liam", subject: {"string": "Maths"}, marks: [75, 80]});
+}
+
+@test:Config {
+    groups: ["json", "record"]
+}
+public isolated function testJsonBytesToAvro() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Student student = {
+        name: "Liam",
+        subject: "Maths"
+    };
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.fromJsonBytes(student.toJsonString().toBytes());
+    test:assertEquals(serializedValue, check avro.toAvro(student));
+    Student deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, student);
+}
+
+@test:Config {
+    groups: ["json", "map"]
+}
+public isolated function testJsonBytesRoundTripWithMaps() returns error? {
+    string schema = string `
+        {
+            "type": "map",
+            "values": {"type": "array", "items": "string"},
+            "default": {}
+        }`;
+
+    map<string[]> colors = {"red": ["r", "e", "d"], "blue": []};
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(colors);
+    byte[] jsonValue = check avro.toJsonBytes(serializedValue);
+    test:assertEquals(check avro.fromJsonBytes(jsonValue), serializedValue);
+}
+
+@test:Config {
+    groups: ["json", "errors"]
+}
+public isolated function testJsonBytesWithInvalidJson() returns error? {
+    string schema = string `
+        {
+            "type": "int",
+            "name" : "intValue",
+            "namespace": "data"
+        }`;
+
+    Schema avro = check new (schema);
+    byte[]|Error serializedValue = avro.fromJsonBytes("\"five\"".toBytes());
+    test:assertTrue(serializedValue is Error);
+}
@@ -0,0 +1,261 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["logical", "record"]
+}
+public isolated function testRecordsWithLogicalTypes() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Payment",
+            "fields": [
+                {"name": "id", "type": {"type": "string", "logicalType": "uuid"}},
+                {"name": "amount", "type": {"type": "bytes", "logicalType": "decimal", "precision": 10, "scale": 2}},
+                {"name": "createdAt", "type": {"type": "long", "logicalType": "timestamp-millis"}},
+                {"name": "dueDate", "type": ["null", {"type": "int", "logicalType": "date"}]}
+            ]
+        }`;
+
+    Payment payment = {
+        id: "3f2504e0-4f89-11d3-9a0c-0305e82c3301",
+        amount: 1250.75,
+        createdAt: [1718000000, 0.125],
+        dueDate: {year: 2024, month: 6, day: 30}
+    };
+    return verifyOperation(Payment, payment, schema);
+}
+
+@test:Config {
+    groups: ["logical", "record"]
+}
+public isolated function testLogicalTypesWithUntypedTarget() returns error? {
+    string schema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Payment",
+            "fields": [
+                {"name": "id", "type": {"type": "string", "logicalType": "uuid"}},
+                {"name": "amount", "type": {"type": "bytes", "logicalType": "decimal", "precision": 10, "scale": 2}},
+                {"name": "createdAt", "type": {"type": "long", "logicalType": "timestamp-millis"}},
+                {"name": "dueDate", "type": ["null", {"type": "int", "logicalType": "date"}]}
+            ]
+        }`;
+
+    Payment payment = {
+        id: "3f2504e0-4f89-11d3-9a0c-0305e82c3301",
+        amount: 1250.75,
+        createdAt: [1718000000, 0.125],
+        dueDate: {year: 2024, month: 6, day: 30}
+    };
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(payment);
+    map<anydata> deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, {
+        id: "3f2504e0-4f89-11d3-9a0c-0305e82c3301",
+        amount: <byte[]>[1, 232, 147],
+        createdAt: 1718000000125,
+        dueDate: 19904
+    });
+}
+
+@test:Config {
+    groups: ["logical", "timestamp"]
+}
+public isolated function testLocalTimestampAsInt() returns error? {
+    string schema = string `
+        {
+            "type": "long",
+            "logicalType": "local-timestamp-millis"
+        }`;
+    int timestamp = 1718000000125;
+    return verifyOperation(int, timestamp, schema);
+}
+
+@test:Config {
+    groups: ["logical", "decimal"]
+}
+public isolated function testDecimalWithFixedSchema() returns error? {
+    string schema = string `
+        {
+            "type": "fixed",
+            "name": "amount",
+            "size": 8,
+            "logicalType": "decimal",
+            "precision": 18,
+            "scale": 4
+        }`;
+
+    decimal amount = -98765.4321;
+    return verifyOperation(decimal, amount, schema);
+}
+
+@test:Config {
+    groups: ["logical", "decimal"]
+}
+public isolated function testDecimalPaddedToSchemaScale() returns error? {
+    string schema = string `
+        {
+            "type": "bytes",
+            "logicalType": "decimal",
+            "precision": 10,
+            "scale": 3
+        }`;
+
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(12.5d);
+    decimal deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, 12.500d);
+}
+
+@test:Config {
+    groups: ["logical", "decimal"]
+}
+public isolated function testDecimalWithExcessScale() returns error? {
+    string schema = string `
+        {
+            "type": "bytes",
+            "logicalType": "decimal",
+            "precision": 10,
+            "scale": 2
+        }`;
+
+    Schema avro = check new (schema);
+    byte[]|Error serializedValue = avro.toAvro(12.345d);
+    test:assertTrue(serializedValue is Error);
+}
+
+@test:Config {
+    groups: ["logical", "array", "decimal"]
+}
+public isolated function testArraysWithDecimals() returns error? {
+    string schema = string `
+        {
+            "type": "array",
+            "items": {"type": "bytes", "logicalType": "decimal", "precision": 8, "scale": 3}
+        }`;
+
+    decimal[] amounts = [1.5, -22.125, 0.001];
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(amounts);
+    DecimalArray deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, <decimal[]>[1.500, -22.125, 0.001]);
+}
+
+@test:Config {
+    groups: ["logical", "array", "uuid"]
+}
+public isolated function testArraysWithUuids() returns error? {
+    string schema = string `
+        {
+            "type": "array",
+            "items": {"type": "string", "logicalType": "uuid"}
+        }`;
+
+    string[] ids = ["3b241101-e2bb-4255-8caf-4136c566a962", "123e4567-e89b-12d3-a456-426614174000"];
+    return verifyOperation(StringArray, ids, schema);
+}
+
+@test:Config {
+    groups: ["logical", "array", "timestamp"]
+}
+public isolated function testArraysWithTimestamps() returns error? {
+    string schema = string `
+        {
+            "type": "array",
+            "items": {"type": "long", "logicalType": "timestamp-millis"}
+        }`;
+
+    int[] timestamps = [1718000000125, -1, 0];
+    return verifyOperation(IntArray, timestamps, schema);
+}
+
+@test:Config {
+    groups: ["logical", "timestamp"]
+}
+public isolated function testTimestampMicrosBeforeEpoch() returns error? {
+    string schema = string `
+        {
+            "type": "long",
+            "logicalType": "timestamp-micros"
+        }`;
+
+    Utc timestamp = [-2, 0.75];
+    return verifyOperation(Utc, timestamp, schema);
+}
+
+@test:Config {
+    groups: ["logical", "timestamp"]
+}
+public isolated function testTimestampAsInt() returns error? {
+    string schema = string `
+        {
+            "type": "long",
+            "logicalType": "timestamp-millis"
+        }`;
+
+    int timestamp = 1718000000125;
+    return verifyOperation(int, timestamp, schema);
+}
+
+@test:Config {
+    groups: ["logical", "uuid"]
+}
+public isolated function testInvalidUuid() returns error? {
+    string schema = string `
+        {
+            "type": "string",
+            "logicalType": "uuid"
+        }`;
+
+    Schema avro = check new (schema);
+    byte[]|Error serializedValue = avro.toAvro("not-a-uuid");
+    test:assertTrue(serializedValue is Error);
+}
+
+@test:Config {
+    groups: ["logical", "array", "decimal"]
+}
+public isolated function testDecimalsAsBytes() returns error? {
+    string schema = string `
+        {
+            "type": "array",
+            "items": {"type": "bytes", "logicalType": "decimal", "precision": 8, "scale": 2}
+        }`;
+
+    Schema avro = check new (schema);
+    byte[] serializedValue = check avro.toAvro(<decimal[]>[1.00, 2.56]);
+    byte[][] deserializedValue = check avro.fromAvro(serializedValue);
+    test:assertEquals(deserializedValue, [[100], [1, 0]]);
+}
+
+@test:Config {
+    groups: ["logical", "timestamp", "union"]
+}
+public isolated function testReadonlyTimestampInUnion() returns error? {
+    string schema = string `
+        [
+            "null",
+            {"type": "long", "logicalType": "timestamp-millis"}
+        ]`;
+
+    Utc timestamp = [1718000000, 0.5];
+    return verifyOperation(Utc, timestamp, schema);
+}
@@ -0,0 +1,103 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["migrate", "record"]
+}
+public isolated function testMigrateRecords() returns error? {
+    string writerSchema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "age", "type": "int"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+    string readerSchema = string `
+        {
+            "namespace": "example.avro",
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "subject", "type": "string"},
+                {"name": "name", "type": "string"},
+                {"name": "grade", "type": "string", "default": "A"}
+            ]
+        }`;
+
+    Schema writer = check new (writerSchema);
+    Schema reader = check new (readerSchema);
+    byte[] serializedValue = check writer.toAvro({name: "Liam", age: 18, subject: "Maths"});
+    byte[] migratedValue = check reader.migrate(serializedValue, writer);
+    MigratedStudent student = check reader.fromAvro(migratedValue);
+    test:assertEquals(student, {subject: "Maths", name: "Liam", grade: "A"});
+    test:assertEquals(migratedValue, check reader.toAvro(student));
+}
+
+@test:Config {
+    groups: ["migrate", "array"]
+}
+public isolated function testMigrateWithTypePromotion() returns error? {
+    string writerSchema = string `
+        {
+            "type": "array",
+            "name" : "intArray",
+            "namespace": "data",
+            "items": "int"
+        }`;
+    string readerSchema = string `
+        {
+            "type": "array",
+            "name" : "doubleArray",
+            "namespace": "data",
+            "items": "double"
+        }`;
+
+    Schema writer = check new (writerSchema);
+    Schema reader = check new (readerSchema);
+    int[] values = [1, 2, 3];
+    byte[] migratedValue = check reader.migrate(check writer.toAvro(values), writer);
+    float[] numbers = check reader.fromAvro(migratedValue);
+    test:assertEquals(numbers, [1.0, 2.0, 3.0]);
+}
+
+@test:Config {
+    groups: ["migrate", "errors"]
+}
+public isolated function testMigrateWithIncompatibleSchemas() returns error? {
+    string writerSchema = string `
+        {
+            "type": "string",
+            "name" : "stringValue",
+            "namespace": "data"
+        }`;
+    string readerSchema = string `
+        {
+            "type": "int",
+            "name" : "intValue",
+            "namespace": "data"
+        }`;
+
+    Schema writer = check new (writerSchema);
+    Schema reader = check new (readerSchema);
+    byte[]|Error migratedValue = reader.migrate(check writer.toAvro("test"), writer);
+    test:assertTrue(migratedValue is Error);
+}
@@ -0,0 +1,70 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+import ballerina/test;
+
+@test:Config {
+    groups: ["pipeline", "record"]
+}
+public isolated function testEncodeAndDecodeStreams() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    readonly & Student[] students = from int i in 0 ..< 200
+        select {name: string `student ${i}`, subject: i % 2 == 0 ? "science" : "math"};
+    Schema avro = check new (schema);
+
+    readonly & byte[][] serializedStudents = check from byte[] serializedStudent
+        in avro.encodeStream(students.toStream(), 8)
+        select serializedStudent.cloneReadOnly();
+    test:assertEquals(serializedStudents.length(), students.length());
+    test:assertEquals(serializedStudents[150], check avro.toAvro(students[150]));
+
+    stream<Student, Error?> deserializedStream = avro.decodeStream(serializedStudents.toStream(), parallelism = 3);
+    Student[] deserializedStudents = check from Student student in deserializedStream select student;
+    test:assertEquals(deserializedStudents, students);
+}
+
+@test:Config {
+    groups: ["pipeline"]
+}
+public isolated function testEncodeStreamWithInvalidValue() returns error? {
+    Schema avro = check new (string `{"type": "int", "name": "value"}`);
+    readonly & anydata[] values = [1, 2, "three", 4];
+    stream<byte[], Error?> serializedValues = avro.encodeStream(values.toStream());
+    test:assertEquals(check serializedValues.next(), {value: check avro.toAvro(1)});
+    test:assertEquals(check serializedValues.next(), {value: check avro.toAvro(2)});
+    record {|byte[] value;|}|Error? invalidValue = serializedValues.next();
+    test:assertTrue(invalidValue is Error);
+    check serializedValues.close();
+}
+
+@test:Config {
+    groups: ["pipeline"]
+}
+public isolated function testCloseEncodeStreamWithPendingValues() returns error? {
+    Schema avro = check new (string `{"type": "int", "name": "value"}`);
+    readonly & int[] values = from int i in 0 ..< 20 select i;
+    stream<byte[], Error?> serializedValues = avro.encodeStream(values.toStream(), 8);
+    test:assertEquals(check serializedValues.next(), {value: check avro.toAvro(0)});
+    check serializedValues.close();
+}
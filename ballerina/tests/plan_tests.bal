@@ -0,0 +1,112 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "recursive"]
+}
+public isolated function testRecursiveRecords() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Node",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "next", "type": ["null", "Node"]}
+            ]
+        }`;
+
+    Node node = {name: "first", next: {name: "second", next: {name: "third", next: ()}}};
+    return verifyOperation(Node, node, schema);
+}
+
+@test:Config {
+    groups: ["map", "record"]
+}
+public isolated function testRepeatedOperationsWithSameSchema() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Scores",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "scores", "type": {"type": "map", "values": "int"}}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    foreach int i in 0 ..< 20 {
+        record {string name; map<int> scores;} value = {name: i.toString(), scores: {"a": i, "b": i * 2, "c": -i}};
+        byte[] serializedValue = check avro.toAvro(value);
+        record {string name; map<int> scores;} deserializedValue = check avro.fromAvro(serializedValue);
+        test:assertEquals(deserializedValue, value);
+        test:assertEquals(check avro.toAvro(deserializedValue), serializedValue);
+    }
+}
+
+@test:Config {
+    groups: ["record"]
+}
+public isolated function testTruncatedData() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    byte[] serializedStudent = check avro.toAvro({name: "student", subject: "mathematics"});
+    byte[] truncatedStudent = serializedStudent.slice(0, serializedStudent.length() - 3);
+    // Repeated, so that the data is decoded by the compiled plan as well as by the visitors.
+    foreach int i in 0 ..< 20 {
+        Student|Error deserializedStudent = avro.fromAvro(truncatedStudent);
+        test:assertTrue(deserializedStudent is Error);
+    }
+}
+
+@test:Config {
+    groups: ["record", "enum", "union"]
+}
+public isolated function testInvalidDataWithCompiledPlans() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Shape",
+            "fields": [
+                {"name": "color", "type": {"type": "enum", "name": "Color", "symbols": ["RED", "GREEN"]}},
+                {"name": "label", "type": ["null", "string"]}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    record {string color; string? label;} shape = {color: "RED", label: "circle"};
+    byte[] serializedShape = check avro.toAvro(shape);
+    byte[] invalidBranch = [serializedShape[0], 4, ...serializedShape.slice(2)];
+    // Repeated, so that the values are handled by the compiled plans as well as by the visitors.
+    foreach int i in 0 ..< 20 {
+        byte[]|Error serializedInvalidShape = avro.toAvro({color: "BLUE", label: ()});
+        test:assertTrue(serializedInvalidShape is Error);
+        test:assertTrue(avro.validate({color: "BLUE", label: ()}) is Error);
+        record {string color; string? label;}|Error deserializedShape = avro.fromAvro(invalidBranch);
+        test:assertTrue(deserializedShape is Error);
+        test:assertEquals(check avro.toAvro(shape), serializedShape);
+    }
+}
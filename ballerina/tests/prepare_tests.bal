@@ -0,0 +1,58 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "prepare"]
+}
+public isolated function testPrepareWithWarmUp() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "PreparedRecord",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "tags", "type": {"type": "array", "items": "string"}},
+                {"name": "next", "type": ["null", "PreparedRecord"]}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    check avro.prepare(PreparedRecord, warmUp = true);
+    PreparedRecord value = {name: "prepared", tags: ["a", "b"], next: {name: "next", tags: [], next: ()}};
+    PreparedRecord deserializedValue = check avro.fromAvro(check avro.toAvro(value));
+    test:assertEquals(deserializedValue, value);
+}
+
+@test:Config {
+    groups: ["record", "prepare", "union"]
+}
+public isolated function testPrepareWithWarmUpOfUnions() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Chain",
+            "fields": [
+                {"name": "label", "type": ["null", "string"]},
+                {"name": "next", "type": ["Chain", "null"]}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    check avro.prepare(record {string label; record {}? next;}, warmUp = true);
+    check avro.prepare(warmUp = true);
+}
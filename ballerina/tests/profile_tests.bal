@@ -0,0 +1,64 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "profile"]
+}
+public isolated function testProfile() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "SizedRecord",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "scores", "type": {"type": "map", "values": "long"}},
+                {"name": "tags", "type": {"type": "array", "items": "string"}},
+                {"name": "ratio", "type": "double"},
+                {"name": "next", "type": ["null", "SizedRecord"]}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    SizedRecord first = {name: "first", scores: {"a": 1}, tags: ["x", "yy"], ratio: 0.5, next: ()};
+    SizedRecord second = {
+        name: "second",
+        scores: {},
+        tags: [],
+        ratio: 1.0,
+        next: {name: "", scores: {}, tags: ["zzz"], ratio: 0.0, next: ()}
+    };
+    byte[] firstData = check avro.toAvro(first);
+    byte[] secondData = check avro.toAvro(second);
+    FieldProfile[] profiles = check avro.profile([firstData, secondData]);
+
+    map<FieldProfile> profilesByPath = map from FieldProfile profile in profiles select [profile.path, profile];
+    test:assertEquals(profiles[0].path, "$");
+    test:assertEquals(profilesByPath.get("$").bytes, firstData.length() + secondData.length());
+    test:assertEquals(profilesByPath.get("$.name"), {path: "$.name", count: 2, bytes: 13, items: 0, length: 11});
+    test:assertEquals(profilesByPath.get("$.scores"), {path: "$.scores", count: 2, bytes: 6, items: 1, length: 0});
+    test:assertEquals(profilesByPath.get("$.scores{}").bytes, 1);
+    test:assertEquals(profilesByPath.get("$.tags").items, 2);
+    test:assertEquals(profilesByPath.get("$.tags[]").length, 3);
+    test:assertEquals(profilesByPath.get("$.ratio").bytes, 16);
+    test:assertEquals(profilesByPath.get("$.next.tags[]"), {path: "$.next.tags[]", count: 1, bytes: 4, items: 0,
+        length: 3});
+
+    FieldProfile[]|Error invalidProfile = avro.profile([[1, 2, 3]]);
+    test:assertTrue(invalidProfile is Error);
+}
@@ -0,0 +1,89 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "raw"]
+}
+public isolated function testRawFields() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Envelope",
+            "fields": [
+                {"name": "id", "type": "string"},
+                {
+                    "name": "payload",
+                    "type": {
+                        "type": "record",
+                        "name": "EnvelopePayload",
+                        "fields": [
+                            {"name": "items", "type": {"type": "array", "items": "string"}},
+                            {"name": "count", "type": "long"}
+                        ]
+                    }
+                }
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    Envelope envelope = {id: "first", payload: {items: ["a", "bb"], count: 2}};
+    byte[] serializedEnvelope = check avro.toAvro(envelope);
+
+    RawEnvelope rawEnvelope = check avro.fromAvro(serializedEnvelope);
+    test:assertEquals(rawEnvelope.id, "first");
+    test:assertEquals(rawEnvelope.payload.bytes, serializedEnvelope.slice(6));
+
+    rawEnvelope.id = "second";
+    byte[] forwardedEnvelope = check avro.toAvro(rawEnvelope);
+    Envelope decodedEnvelope = check avro.fromAvro(forwardedEnvelope);
+    test:assertEquals(decodedEnvelope, {id: "second", payload: envelope.payload});
+
+    RawEnvelope invalidEnvelope = {id: "third", payload: {bytes: [1, 2, 3]}};
+    byte[]|Error invalidData = avro.toAvro(invalidEnvelope);
+    test:assertTrue(invalidData is Error);
+}
+
+@test:Config {
+    groups: ["record", "raw"]
+}
+public isolated function testInvalidValueWithoutRawFields() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Envelope",
+            "fields": [
+                {"name": "id", "type": "string"},
+                {
+                    "name": "payload",
+                    "type": {
+                        "type": "record",
+                        "name": "EnvelopePayload",
+                        "fields": [
+                            {"name": "items", "type": {"type": "array", "items": "string"}},
+                            {"name": "count", "type": "long"}
+                        ]
+                    }
+                }
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    map<anydata> invalidEnvelope = {id: "first", payload: {items: ["a"], count: "two"}};
+    byte[]|Error invalidData = avro.toAvro(invalidEnvelope);
+    test:assertTrue(invalidData is Error);
+}
@@ -0,0 +1,45 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "readonly"]
+}
+public isolated function testRepeatedReadonlyRecords() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "PreparedRecord",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "tags", "type": {"type": "array", "items": "string"}},
+                {"name": "next", "type": ["null", "PreparedRecord"]}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    PreparedRecord & readonly shared = {name: "shared", tags: ["a", "b"], next: ()};
+    byte[] expected = check avro.toAvro(shared.clone());
+    // Repeated, so that the encoded bytes of the readonly records are reused by the compiled plan.
+    foreach int i in 0 ..< 20 {
+        test:assertEquals(check avro.toAvro(shared), expected);
+        PreparedRecord parent = {name: string `parent ${i}`, tags: [], next: shared};
+        PreparedRecord deserializedParent = check avro.fromAvro(check avro.toAvro(parent));
+        test:assertEquals(deserializedParent, parent);
+        test:assertEquals(check avro.encodedSize(parent), (check avro.toAvro(parent.clone())).length());
+    }
+}
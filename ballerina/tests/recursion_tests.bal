@@ -0,0 +1,171 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "recursive"]
+}
+public isolated function testDeeplyNestedRecords() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Node",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "next", "type": ["null", "Node"]}
+            ]
+        }`;
+
+    int depth = 100000;
+    Node node = {name: "0", next: ()};
+    foreach int i in 1 ..< depth {
+        node = {name: i.toString(), next: node};
+    }
+    Schema avro = check new (schema);
+    byte[] serializedNode = check avro.toAvro(node);
+    test:assertEquals(check avro.encodedSize(node), serializedNode.length());
+
+    Node decodedNode = check avro.fromAvro(serializedNode);
+    Node? current = decodedNode;
+    int level = depth;
+    while current is Node {
+        level -= 1;
+        test:assertEquals(current.name, level.toString());
+        current = current.next;
+    }
+    test:assertEquals(level, 0);
+}
+
+@test:Config {
+    groups: ["record", "recursive"]
+}
+public isolated function testDeeplyNestedArrays() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "TreeNode",
+            "fields": [
+                {"name": "id", "type": "long"},
+                {"name": "children", "type": {"type": "array", "items": "TreeNode"}}
+            ]
+        }`;
+
+    int depth = 50000;
+    TreeNode tree = {id: 0, children: []};
+    foreach int i in 1 ..< depth {
+        tree = {id: i, children: [tree, {id: -i, children: []}]};
+    }
+    Schema avro = check new (schema);
+    byte[] serializedTree = check avro.toAvro(tree);
+
+    TreeNode[] current = [check avro.fromAvro(serializedTree)];
+    int level = depth;
+    while current.length() > 0 {
+        level -= 1;
+        TreeNode node = current[0];
+        test:assertEquals(node.id, level);
+        if level > 0 {
+            test:assertEquals(node.children[1], {id: -level, children: []});
+        }
+        current = node.children.length() > 0 ? [node.children[0]] : [];
+    }
+    test:assertEquals(level, 0);
+}
+
+final string NODE_SCHEMA = string `
+    {
+        "type": "record",
+        "name": "Node",
+        "fields": [
+            {"name": "name", "type": "string"},
+            {"name": "next", "type": ["null", "Node"]}
+        ]
+    }`;
+
+isolated function createNestedNode(int depth) returns Node {
+    Node node = {name: "0", next: ()};
+    foreach int i in 1 ..< depth {
+        node = {name: i.toString(), next: node};
+    }
+    return node;
+}
+
+@test:Config {
+    groups: ["record", "recursive", "raw"]
+}
+public isolated function testDeeplyNestedRawFields() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "NodeEnvelope",
+            "fields": [
+                {"name": "id", "type": "string"},
+                {"name": "payload", "type": ${NODE_SCHEMA}}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    NodeEnvelope envelope = {id: "first", payload: createNestedNode(100000)};
+    byte[] serializedEnvelope = check avro.toAvro(envelope);
+
+    RawNodeEnvelope rawEnvelope = check avro.fromAvro(serializedEnvelope);
+    test:assertEquals(rawEnvelope.payload.bytes, serializedEnvelope.slice(6));
+    test:assertEquals(check avro.toAvro(rawEnvelope), serializedEnvelope);
+}
+
+@test:Config {
+    groups: ["record", "recursive", "profile"]
+}
+public isolated function testProfileDeeplyNestedRecords() returns error? {
+    // Each level of a recursive schema has a path of its own, so the depth is kept moderate.
+    int depth = 2000;
+    Schema avro = check new (NODE_SCHEMA);
+    byte[] serializedNode = check avro.toAvro(createNestedNode(depth));
+
+    FieldProfile[] profiles = check avro.profile([serializedNode]);
+    test:assertEquals(profiles[0], {path: "$", count: 1, bytes: serializedNode.length(), items: 0, length: 0});
+    FieldProfile[] names = profiles.filter(profile => profile.path.endsWith(".name"));
+    test:assertEquals(names.length(), depth);
+}
+
+@test:Config {
+    groups: ["record", "recursive", "channel"]
+}
+public isolated function testChannelWithDeeplyNestedRecords() returns error? {
+    Schema avro = check new (NODE_SCHEMA);
+    Node[] nodes = [createNestedNode(100000), createNestedNode(3), createNestedNode(100000)];
+
+    io:WritableByteChannel writableChannel = check io:openWritableFile("target/nodes.avro");
+    check avro.toChannel(writableChannel, nodes, RAW);
+    check writableChannel.close();
+
+    io:ReadableByteChannel readableChannel = check io:openReadableFile("target/nodes.avro");
+    stream<Node, Error?> values = avro.fromChannel(readableChannel, framing = RAW);
+    int[] depths = check from Node node in values select getDepth(node);
+    test:assertEquals(depths, [100000, 3, 100000]);
+}
+
+isolated function getDepth(Node node) returns int {
+    int depth = 1;
+    Node? current = node.next;
+    while current is Node {
+        depth += 1;
+        current = current.next;
+    }
+    return depth;
+}
@@ -0,0 +1,43 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["cache"]
+}
+public isolated function testSchemaCache() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "CachedRecord",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "count", "type": "int"}
+            ]
+        }`;
+
+    Schema first = check new (schema);
+    SchemaCacheStatistics before = getSchemaCacheStatistics();
+    Schema second = check new (schema);
+    SchemaCacheStatistics after = getSchemaCacheStatistics();
+    test:assertTrue(after.hits > before.hits);
+    test:assertTrue(after.size > 0);
+
+    record {string name; int count;} value = {name: "cached", count: 3};
+    record {string name; int count;} deserializedValue = check second.fromAvro(check first.toAvro(value));
+    test:assertEquals(deserializedValue, value);
+}
@@ -0,0 +1,49 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "size"]
+}
+public isolated function testEncodedSize() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "SizedRecord",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "scores", "type": {"type": "map", "values": "long"}},
+                {"name": "tags", "type": {"type": "array", "items": "string"}},
+                {"name": "ratio", "type": "double"},
+                {"name": "next", "type": ["null", "SizedRecord"]}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    SizedRecord value = {
+        name: "Ünïcödé 名前",
+        scores: {"low": -1, "high": 9223372036854775807},
+        tags: ["a", "bb", ""],
+        ratio: 0.5,
+        next: {name: "", scores: {}, tags: [], ratio: -1.0, next: ()}
+    };
+    test:assertEquals(check avro.encodedSize(value), (check avro.toAvro(value)).length());
+
+    int|Error invalidSize = avro.encodedSize({name: "missing fields"});
+    test:assertTrue(invalidSize is Error);
+}
@@ -0,0 +1,78 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "slice"]
+}
+public isolated function testFromAvroSlice() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    // Repeated, so that the slices are decoded by the compiled plan as well as by the visitors.
+    foreach int i in 0 ..< 20 {
+        Student student = {name: string `student ${i}`, subject: "math"};
+        byte[] serializedStudent = check avro.toAvro(student);
+        byte[] frame = [0xCA, 0xFE, 0x00, 0x01];
+        frame.push(...serializedStudent);
+        frame.push(0xFF, 0xFF);
+
+        Student deserializedStudent = check avro.fromAvroSlice(frame, 4, serializedStudent.length());
+        test:assertEquals(deserializedStudent, student);
+    }
+
+    byte[] data = check avro.toAvro({name: "student", subject: "math"});
+    Student|Error outOfBounds = avro.fromAvroSlice(data, 1, data.length());
+    test:assertTrue(outOfBounds is Error);
+    Student|Error negativeOffset = avro.fromAvroSlice(data, -1, 2);
+    test:assertTrue(negativeOffset is Error);
+}
+
+@test:Config {
+    groups: ["record", "slice"]
+}
+public isolated function testFromAvroTruncatedSlice() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Student",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "subject", "type": "string"}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    byte[] serializedStudent = check avro.toAvro({name: "student", subject: "mathematics"});
+    byte[] frame = [0xCA, 0xFE];
+    frame.push(...serializedStudent);
+    frame.push(...serializedStudent);
+    // Repeated, so that the slice is decoded by the compiled plan as well as by the visitors. The bytes after the
+    // slice belong to the frame and must not be read as a part of the value.
+    foreach int i in 0 ..< 20 {
+        Student|Error deserializedStudent = avro.fromAvroSlice(frame, 2, serializedStudent.length() - 3);
+        test:assertTrue(deserializedStudent is Error);
+    }
+}
@@ -19,6 +19,35 @@ public type Student record {
     string subject;
 };
 
+public type StudentMarks record {
+    string name;
+    string? subject;
+    int[] marks;
+};
+
+type MigratedStudent record {
+    string subject;
+    string name;
+    string grade;
+};
+
+type Utc readonly & [int, decimal];
+
+type Date record {
+    int year;
+    int month;
+    int day;
+};
+
+type Payment record {
+    string id;
+    decimal amount;
+    Utc createdAt;
+    Date? dueDate;
+};
+
+type DecimalArray decimal[];
+
 public type Student1 record {
     string name;
     byte[] favorite_color;
@@ -364,3 +393,52 @@ type EnumArray Numbers[];
 type Enum2DArray Numbers[][];
 type ReadOnlyString2DArray string[][] & readonly;
 type DataRecord record{};
+
+type Node record {
+    string name;
+    Node? next;
+};
+
+type NodeEnvelope record {
+    string id;
+    Node payload;
+};
+
+type RawNodeEnvelope record {
+    string id;
+    Raw payload;
+};
+
+type PreparedRecord record {
+    string name;
+    string[] tags;
+    PreparedRecord? next;
+};
+
+type SizedRecord record {
+    string name;
+    map<int> scores;
+    string[] tags;
+    float ratio;
+    SizedRecord? next;
+};
+
+type EnvelopePayload record {
+    string[] items;
+    int count;
+};
+
+type Envelope record {
+    string id;
+    EnvelopePayload payload;
+};
+
+type RawEnvelope record {
+    string id;
+    Raw payload;
+};
+
+type TreeNode record {
+    int id;
+    TreeNode[] children;
+};
@@ -0,0 +1,64 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "anydata"]
+}
+public isolated function testUntypedDeserialization() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "Course",
+            "fields": [
+                {"name": "name", "type": "string"},
+                {"name": "level", "type": {"type": "enum", "name": "Level", "symbols": ["BASIC", "ADVANCED"]}},
+                {"name": "credits", "type": "int"},
+                {"name": "weights", "type": {"type": "map", "values": "float"}},
+                {"name": "tags", "type": {"type": "array", "items": "string"}},
+                {"name": "sections", "type": {"type": "array", "items": {
+                    "type": "record",
+                    "name": "Section",
+                    "fields": [
+                        {"name": "title", "type": "string"},
+                        {"name": "code", "type": ["null", "long"]}
+                    ]
+                }}}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    map<anydata> course = {
+        name: "Databases",
+        level: "ADVANCED",
+        credits: 3,
+        weights: {"exam": 0.5, "project": 0.25},
+        tags: ["sql", "storage"],
+        sections: [{title: "Indexes", code: 7}, {title: "Transactions", code: ()}]
+    };
+    byte[] serializedCourse = check avro.toAvro(course);
+
+    anydata deserializedCourse = check avro.fromAvro(serializedCourse);
+    test:assertTrue(deserializedCourse is map<anydata>);
+    test:assertEquals(deserializedCourse, course);
+
+    json jsonCourse = check avro.fromAvro(serializedCourse);
+    test:assertTrue(jsonCourse is map<json>);
+    test:assertEquals(jsonCourse, course);
+    json[] sections = check (check jsonCourse.sections).ensureType();
+    test:assertEquals(sections[1], {title: "Transactions", code: ()});
+}
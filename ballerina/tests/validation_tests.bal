@@ -0,0 +1,47 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["record", "validate"]
+}
+public isolated function testValidate() returns error? {
+    string schema = string `
+        {
+            "type": "record",
+            "name": "ValidatedRecord",
+            "fields": [
+                {"name": "number", "type": {"type": "enum", "name": "Numbers", "symbols": ["ONE", "TWO", "THREE", "FOUR"]}},
+                {"name": "label", "type": ["null", "string"]},
+                {"name": "count", "type": "long"}
+            ]
+        }`;
+
+    Schema avro = check new (schema);
+    // Repeated, so that the values are validated by the compiled plan as well as by the visitors.
+    foreach int i in 0 ..< 20 {
+        check avro.validate({number: "TWO", label: (), count: i});
+        check avro.validate({number: "ONE", label: "label", count: i});
+
+        Error? unknownSymbol = avro.validate({number: "FIVE", label: (), count: i});
+        test:assertTrue(unknownSymbol is Error);
+        Error? unmatchedBranch = avro.validate({number: "ONE", label: true, count: i});
+        test:assertTrue(unmatchedBranch is Error);
+        Error? missingField = avro.validate({number: "ONE", label: "label"});
+        test:assertTrue(missingField is Error);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.compiler;
+
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Tests the diagnostics reported by the Avro compiler plugin.
+ */
+public class CompilerPluginTest {
+
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src", "test", "resources", "ballerina_sources")
+            .toAbsolutePath();
+    private static final Path DISTRIBUTION_PATH = Paths.get("../", "target", "ballerina-runtime")
+            .toAbsolutePath();
+
+    @Test
+    public void testValidSchemaUsage() {
+        DiagnosticResult diagnosticResult = compile("sample_package_1");
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+    }
+
+    @Test
+    public void testInvalidSchemaLiteral() {
+        List<Diagnostic> errors = getErrors("sample_package_2");
+        Assert.assertEquals(errors.size(), 2);
+        assertError(errors.get(0), AvroDiagnosticCodes.INVALID_SCHEMA, 20, 32);
+        assertError(errors.get(1), AvroDiagnosticCodes.INVALID_SCHEMA, 21, 32);
+    }
+
+    @Test
+    public void testFieldNotInSchema() {
+        List<Diagnostic> errors = getErrors("sample_package_3");
+        Assert.assertEquals(errors.size(), 1);
+        assertError(errors.get(0), AvroDiagnosticCodes.FIELD_NOT_IN_SCHEMA, 36, 23);
+        Assert.assertTrue(errors.get(0).message().startsWith("field 'grade' of type"), errors.get(0).message());
+    }
+
+    @Test
+    public void testFieldNotInType() {
+        List<Diagnostic> errors = getErrors("sample_package_4");
+        Assert.assertEquals(errors.size(), 1);
+        assertError(errors.get(0), AvroDiagnosticCodes.FIELD_NOT_IN_TYPE, 34, 22);
+        Assert.assertTrue(errors.get(0).message().startsWith("field 'subject' of the Avro schema 'Student'"),
+                errors.get(0).message());
+    }
+
+    @Test
+    public void testIncompatibleType() {
+        List<Diagnostic> errors = getErrors("sample_package_5");
+        Assert.assertEquals(errors.size(), 2);
+        assertError(errors.get(0), AvroDiagnosticCodes.INCOMPATIBLE_TYPE, 22, 25);
+        assertError(errors.get(1), AvroDiagnosticCodes.INCOMPATIBLE_TYPE, 23, 22);
+    }
+
+    @Test
+    public void testNoDiagnosticsWithCompilationErrors() {
+        List<Diagnostic> errors = getErrors("sample_package_6");
+        Assert.assertFalse(errors.isEmpty());
+        for (Diagnostic error : errors) {
+            Assert.assertFalse(error.diagnosticInfo().code().startsWith("AVRO_"), error.message());
+        }
+    }
+
+    private static void assertError(Diagnostic diagnostic, AvroDiagnosticCodes code, int line, int column) {
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), code.getCode(), diagnostic.message());
+        Assert.assertEquals(diagnostic.location().lineRange().startLine().line() + 1, line, diagnostic.message());
+        Assert.assertEquals(diagnostic.location().lineRange().startLine().offset() + 1, column,
+                diagnostic.message());
+    }
+
+    private static List<Diagnostic> getErrors(String packageName) {
+        return compile(packageName).diagnostics().stream()
+                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)
+                .sorted((first, second) -> Integer.compare(first.location().lineRange().startLine().line(),
+                        second.location().lineRange().startLine().line()))
+                .toList();
+    }
+
+    private static DiagnosticResult compile(String packageName) {
+        Environment environment = EnvironmentBuilder.getBuilder().setBallerinaHome(DISTRIBUTION_PATH).build();
+        BuildProject project = BuildProject.load(ProjectEnvironmentBuilder.getBuilder(environment),
+                RESOURCE_DIRECTORY.resolve(packageName));
+        Package currentPackage = project.currentPackage();
+        return currentPackage.getCompilation().diagnosticResult();
+    }
+}
@@ -0,0 +1,42 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/avro;
+
+type Student record {
+    string name;
+    string subject;
+};
+
+final avro:Schema studentSchema = check new (string `
+    {
+        "type": "record",
+        "name": "Student",
+        "fields": [
+            {"name": "name", "type": "string"},
+            {"name": "subject", "type": "string"}
+        ]
+    }`);
+
+public function main() returns error? {
+    avro:Schema nameSchema = check new ("{\"type\": \"string\", \"name\": \"name\", \"doc\": \"\u{1F600}\"}");
+    byte[] serializedName = check nameSchema.toAvro("John");
+    string name = check nameSchema.fromAvro(serializedName);
+
+    Student student = {name, subject: "math"};
+    byte[] serializedStudent = check studentSchema.toAvro(student);
+    Student _ = check studentSchema.fromAvro(serializedStudent);
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.compiler;
+
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+
+import static io.ballerina.tools.diagnostics.DiagnosticSeverity.ERROR;
+
+/**
+ * The diagnostic codes of the Avro compiler plugin.
+ *
+ * @since 1.2.1
+ */
+public enum AvroDiagnosticCodes {
+
+    INVALID_SCHEMA("AVRO_101", "invalid Avro schema: {0}", ERROR),
+    FIELD_NOT_IN_SCHEMA("AVRO_102", "field ''{0}'' of type ''{1}'' is not a field of the Avro schema ''{2}''", ERROR),
+    FIELD_NOT_IN_TYPE("AVRO_103", "field ''{0}'' of the Avro schema ''{1}'' is not a field of type ''{2}''", ERROR),
+    INCOMPATIBLE_TYPE("AVRO_104", "type ''{0}'' is not compatible with the Avro schema of type ''{1}''", ERROR);
+
+    private final String code;
+    private final String message;
+    private final DiagnosticSeverity severity;
+
+    AvroDiagnosticCodes(String code, String message, DiagnosticSeverity severity) {
+        this.code = code;
+        this.message = message;
+        this.severity = severity;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public DiagnosticSeverity getSeverity() {
+        return severity;
+    }
+}
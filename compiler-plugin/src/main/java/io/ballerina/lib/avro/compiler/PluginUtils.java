@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.compiler;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.ExplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
+import io.ballerina.compiler.syntax.tree.ImplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ParenthesizedArgList;
+import io.ballerina.compiler.syntax.tree.PositionalArgumentNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.diagnostics.Location;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Utility functions of the Avro compiler plugin.
+ *
+ * @since 1.2.1
+ */
+public final class PluginUtils {
+
+    private static final String AVRO_ORG = "ballerina";
+    private static final String AVRO_MODULE = "avro";
+    private static final String SCHEMA_TYPE = "Schema";
+    private static final String SCHEMA_PARAMETER = "schema";
+
+    // The same semantic model is given to the analysis tasks of all the nodes of a module, so the diagnostics of a
+    // module are only scanned once.
+    private static final Map<SemanticModel, Boolean> COMPILATION_ERRORS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PluginUtils() {}
+
+    public static boolean hasCompilationErrors(SyntaxNodeAnalysisContext context) {
+        return COMPILATION_ERRORS.computeIfAbsent(context.semanticModel(), PluginUtils::containsErrors);
+    }
+
+    private static boolean containsErrors(SemanticModel semanticModel) {
+        for (Diagnostic diagnostic : semanticModel.diagnostics()) {
+            if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void reportDiagnostic(SyntaxNodeAnalysisContext context, AvroDiagnosticCodes diagnosticCode,
+                                        Location location, Object... args) {
+        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(diagnosticCode.getCode(), diagnosticCode.getMessage(),
+                diagnosticCode.getSeverity());
+        context.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo, location, args));
+    }
+
+    public static boolean isAvroSchema(TypeSymbol typeSymbol) {
+        if (typeSymbol.typeKind() == TypeDescKind.UNION) {
+            for (TypeSymbol memberType : ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                if (isAvroSchema(memberType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (typeSymbol.typeKind() != TypeDescKind.TYPE_REFERENCE) {
+            return false;
+        }
+        Optional<ModuleSymbol> module = typeSymbol.getModule();
+        return module.isPresent() && AVRO_ORG.equals(module.get().id().orgName())
+                && AVRO_MODULE.equals(module.get().id().moduleName())
+                && typeSymbol.getName().filter(SCHEMA_TYPE::equals).isPresent();
+    }
+
+    public static TypeSymbol getReferredType(TypeSymbol typeSymbol) {
+        if (typeSymbol.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+            return getReferredType(((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor());
+        }
+        if (typeSymbol.typeKind() == TypeDescKind.INTERSECTION) {
+            return getReferredType(((IntersectionTypeSymbol) typeSymbol).effectiveTypeDescriptor());
+        }
+        return typeSymbol;
+    }
+
+    /**
+     * Returns the schema given to an {@code avro:Schema} constructor, if it is a string literal or a string template
+     * without interpolations.
+     *
+     * @param semanticModel the semantic model of the module
+     * @param newExpression the implicit or explicit new expression
+     * @return the schema text
+     * @throws IllegalArgumentException if the string literal has a malformed escape sequence
+     */
+    public static Optional<String> getSchemaText(SemanticModel semanticModel, Node newExpression) {
+        Optional<TypeSymbol> type = semanticModel.typeOf(newExpression);
+        if (type.isEmpty() || !isAvroSchema(type.get())) {
+            return Optional.empty();
+        }
+        return getSchemaArgument(newExpression).flatMap(PluginUtils::getStringValue);
+    }
+
+    public static Optional<ExpressionNode> getSchemaArgument(Node newExpression) {
+        Optional<ParenthesizedArgList> argList;
+        if (newExpression.kind() == SyntaxKind.IMPLICIT_NEW_EXPRESSION) {
+            argList = ((ImplicitNewExpressionNode) newExpression).parenthesizedArgList();
+        } else if (newExpression.kind() == SyntaxKind.EXPLICIT_NEW_EXPRESSION) {
+            argList = Optional.of(((ExplicitNewExpressionNode) newExpression).parenthesizedArgList());
+        } else {
+            return Optional.empty();
+        }
+        if (argList.isEmpty()) {
+            return Optional.empty();
+        }
+        SeparatedNodeList<FunctionArgumentNode> arguments = argList.get().arguments();
+        for (FunctionArgumentNode argument : arguments) {
+            if (argument.kind() == SyntaxKind.POSITIONAL_ARG) {
+                return Optional.of(((PositionalArgumentNode) argument).expression());
+            }
+            if (argument.kind() == SyntaxKind.NAMED_ARG) {
+                NamedArgumentNode namedArgument = (NamedArgumentNode) argument;
+                if (SCHEMA_PARAMETER.equals(namedArgument.argumentName().name().text())) {
+                    return Optional.of(namedArgument.expression());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<Schema> parseSchema(String schemaText) {
+        try {
+            return Optional.of(new Schema.Parser().parse(schemaText));
+        } catch (AvroRuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> getStringValue(ExpressionNode expression) {
+        if (expression.kind() == SyntaxKind.STRING_TEMPLATE_EXPRESSION) {
+            StringBuilder value = new StringBuilder();
+            for (Node content : ((TemplateExpressionNode) expression).content()) {
+                if (content.kind() != SyntaxKind.TEMPLATE_STRING) {
+                    return Optional.empty();
+                }
+                value.append(((Token) content).text());
+            }
+            return Optional.of(value.toString());
+        }
+        if (expression.kind() == SyntaxKind.STRING_LITERAL) {
+            String text = ((BasicLiteralNode) expression).literalToken().text();
+            return unescape(text.substring(1, text.length() - 1));
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> unescape(String text) {
+        StringBuilder value = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (++i == text.length()) {
+                throw new IllegalArgumentException("malformed escape sequence at the end of the string");
+            }
+            switch (text.charAt(i)) {
+                case 'n' -> value.append('\n');
+                case 't' -> value.append('\t');
+                case 'r' -> value.append('\r');
+                case '"' -> value.append('"');
+                case '\\' -> value.append('\\');
+                case 'u' -> {
+                    int end = text.indexOf('}', i);
+                    if (end < 0 || i + 1 >= text.length() || text.charAt(i + 1) != '{') {
+                        throw new IllegalArgumentException("malformed escape sequence '" + text.substring(i - 1)
+                                + "'");
+                    }
+                    value.appendCodePoint(parseCodePoint(text.substring(i - 1, end + 1)));
+                    i = end;
+                }
+                default -> throw new IllegalArgumentException("malformed escape sequence '\\" + text.charAt(i)
+                        + "'");
+            }
+        }
+        return Optional.of(value.toString());
+    }
+
+    private static int parseCodePoint(String escape) {
+        try {
+            int codePoint = Integer.parseInt(escape.substring(3, escape.length() - 1), 16);
+            if (Character.isValidCodePoint(codePoint)) {
+                return codePoint;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below, along with the code points that are out of range.
+        }
+        throw new IllegalArgumentException("malformed escape sequence '" + escape + "'");
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.compiler;
+
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.projects.plugins.AnalysisTask;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+
+import java.util.Optional;
+
+import static io.ballerina.lib.avro.compiler.PluginUtils.getSchemaArgument;
+import static io.ballerina.lib.avro.compiler.PluginUtils.getSchemaText;
+import static io.ballerina.lib.avro.compiler.PluginUtils.hasCompilationErrors;
+import static io.ballerina.lib.avro.compiler.PluginUtils.reportDiagnostic;
+
+/**
+ * Parses the schemas given to {@code avro:Schema} constructors as string literals and reports the invalid ones.
+ *
+ * @since 1.2.1
+ */
+public class SchemaLiteralValidator implements AnalysisTask<SyntaxNodeAnalysisContext> {
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext context) {
+        if (hasCompilationErrors(context)) {
+            return;
+        }
+        Node node = context.node();
+        try {
+            Optional<String> schemaText = getSchemaText(context.semanticModel(), node);
+            if (schemaText.isEmpty()) {
+                return;
+            }
+            new Schema.Parser().parse(schemaText.get());
+        } catch (AvroRuntimeException | IllegalArgumentException e) {
+            ExpressionNode schemaArgument = getSchemaArgument(node).orElseThrow();
+            reportDiagnostic(context, AvroDiagnosticCodes.INVALID_SCHEMA, schemaArgument.location(), e.getMessage());
+        }
+    }
+}
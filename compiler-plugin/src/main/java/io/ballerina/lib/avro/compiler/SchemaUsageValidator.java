@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.compiler;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
+import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.PositionalArgumentNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+import io.ballerina.projects.plugins.AnalysisTask;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.Location;
+import org.apache.avro.Schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.ballerina.lib.avro.compiler.PluginUtils.getReferredType;
+import static io.ballerina.lib.avro.compiler.PluginUtils.getSchemaText;
+import static io.ballerina.lib.avro.compiler.PluginUtils.hasCompilationErrors;
+import static io.ballerina.lib.avro.compiler.PluginUtils.isAvroSchema;
+import static io.ballerina.lib.avro.compiler.PluginUtils.reportDiagnostic;
+
+/**
+ * Checks the types used with the {@code toAvro} and {@code fromAvro} methods of an {@code avro:Schema} against the
+ * schema, when the schema is a string literal given to the constructor of a variable that is not reassigned.
+ *
+ * @since 1.2.1
+ */
+public class SchemaUsageValidator implements AnalysisTask<SyntaxNodeAnalysisContext> {
+
+    private static final String TO_AVRO = "toAvro";
+    private static final String FROM_AVRO = "fromAvro";
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext context) {
+        MethodCallExpressionNode methodCall = (MethodCallExpressionNode) context.node();
+        String methodName = methodCall.methodName().toSourceCode().strip();
+        if (!TO_AVRO.equals(methodName) && !FROM_AVRO.equals(methodName) || hasCompilationErrors(context)) {
+            return;
+        }
+        SemanticModel semanticModel = context.semanticModel();
+        Optional<TypeSymbol> receiverType = semanticModel.typeOf(methodCall.expression());
+        if (receiverType.isEmpty() || !isAvroSchema(receiverType.get())) {
+            return;
+        }
+        Optional<Schema> schema = findSchema(context, methodCall.expression());
+        if (schema.isEmpty()) {
+            return;
+        }
+        if (TO_AVRO.equals(methodName)) {
+            Optional<ExpressionNode> data = getFirstArgument(methodCall);
+            data.flatMap(semanticModel::typeOf).ifPresent(
+                    type -> validateSerializedType(context, methodCall.location(), type, schema.get()));
+        } else {
+            semanticModel.typeOf(methodCall).flatMap(SchemaUsageValidator::getNonErrorType).ifPresent(
+                    type -> validateDeserializedType(context, methodCall.location(), type, schema.get()));
+        }
+    }
+
+    private static Optional<Schema> findSchema(SyntaxNodeAnalysisContext context, ExpressionNode receiver) {
+        if (receiver.kind() != SyntaxKind.SIMPLE_NAME_REFERENCE) {
+            return Optional.empty();
+        }
+        SemanticModel semanticModel = context.semanticModel();
+        Optional<Symbol> symbol = semanticModel.symbol(receiver);
+        if (symbol.isEmpty() || symbol.get().kind() != SymbolKind.VARIABLE) {
+            return Optional.empty();
+        }
+        SyntaxTree syntaxTree = context.syntaxTree();
+        Optional<Node> declaration = symbol.get().getLocation()
+                .filter(location -> isInSyntaxTree(location, syntaxTree))
+                .flatMap(location -> findDeclaration(syntaxTree, location));
+        if (declaration.isEmpty() || isReassigned(semanticModel, symbol.get(), syntaxTree)) {
+            return Optional.empty();
+        }
+        Optional<ExpressionNode> initializer = getInitializer(declaration.get());
+        if (initializer.isEmpty()) {
+            return Optional.empty();
+        }
+        ExpressionNode newExpression = initializer.get();
+        if (newExpression.kind() == SyntaxKind.CHECK_EXPRESSION) {
+            newExpression = ((CheckExpressionNode) newExpression).expression();
+        }
+        try {
+            return getSchemaText(semanticModel, newExpression).flatMap(PluginUtils::parseSchema);
+        } catch (IllegalArgumentException e) {
+            // Reported by the schema literal validator.
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Node> findDeclaration(SyntaxTree syntaxTree, Location location) {
+        Node node = syntaxTree.rootNode().findNode(location.textRange());
+        while (node != null) {
+            if (node.kind() == SyntaxKind.LOCAL_VAR_DECL) {
+                return Optional.of(node);
+            }
+            if (node.kind() == SyntaxKind.MODULE_VAR_DECL) {
+                // A module variable can be assigned from any file of the module, so only final ones are used.
+                for (Token qualifier : ((ModuleVariableDeclarationNode) node).qualifiers()) {
+                    if (qualifier.kind() == SyntaxKind.FINAL_KEYWORD) {
+                        return Optional.of(node);
+                    }
+                }
+                return Optional.empty();
+            }
+            node = node.parent();
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<ExpressionNode> getInitializer(Node declaration) {
+        if (declaration.kind() == SyntaxKind.LOCAL_VAR_DECL) {
+            return ((VariableDeclarationNode) declaration).initializer();
+        }
+        return ((ModuleVariableDeclarationNode) declaration).initializer();
+    }
+
+    private static boolean isReassigned(SemanticModel semanticModel, Symbol symbol, SyntaxTree syntaxTree) {
+        for (Location reference : semanticModel.references(symbol)) {
+            if (!isInSyntaxTree(reference, syntaxTree)) {
+                continue;
+            }
+            Node node = syntaxTree.rootNode().findNode(reference.textRange());
+            Node parent = node.parent();
+            if (parent != null && parent.kind() == SyntaxKind.ASSIGNMENT_STATEMENT
+                    && ((AssignmentStatementNode) parent).varRef().textRange().equals(node.textRange())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInSyntaxTree(Location location, SyntaxTree syntaxTree) {
+        return location.lineRange().fileName().equals(syntaxTree.filePath());
+    }
+
+    private static Optional<ExpressionNode> getFirstArgument(MethodCallExpressionNode methodCall) {
+        for (FunctionArgumentNode argument : methodCall.arguments()) {
+            if (argument.kind() == SyntaxKind.POSITIONAL_ARG) {
+                return Optional.of(((PositionalArgumentNode) argument).expression());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<TypeSymbol> getNonErrorType(TypeSymbol typeSymbol) {
+        if (typeSymbol.typeKind() != TypeDescKind.UNION) {
+            return Optional.of(typeSymbol);
+        }
+        List<TypeSymbol> memberTypes = new ArrayList<>();
+        for (TypeSymbol memberType : ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+            if (getReferredType(memberType).typeKind() != TypeDescKind.ERROR) {
+                memberTypes.add(memberType);
+            }
+        }
+        return memberTypes.size() == 1 ? Optional.of(memberTypes.get(0)) : Optional.empty();
+    }
+
+    private static void validateSerializedType(SyntaxNodeAnalysisContext context, Location location,
+                                               TypeSymbol type, Schema schema) {
+        if (!isCompatible(type, schema, true)) {
+            reportDiagnostic(context, AvroDiagnosticCodes.INCOMPATIBLE_TYPE, location, type.signature(),
+                    schema.getType().getName());
+            return;
+        }
+        TypeSymbol referredType = getReferredType(type);
+        if (referredType.typeKind() != TypeDescKind.RECORD) {
+            return;
+        }
+        RecordTypeSymbol recordType = (RecordTypeSymbol) referredType;
+        if (recordType.restTypeDescriptor().isPresent()) {
+            return;
+        }
+        Map<String, RecordFieldSymbol> fields = getFields(recordType);
+        for (Schema.Field field : schema.getFields()) {
+            if (!field.hasDefaultValue() && !field.schema().isNullable() && !fields.containsKey(field.name())) {
+                reportDiagnostic(context, AvroDiagnosticCodes.FIELD_NOT_IN_TYPE, location, field.name(),
+                        schema.getFullName(), type.signature());
+            }
+        }
+    }
+
+    private static void validateDeserializedType(SyntaxNodeAnalysisContext context, Location location,
+                                                 TypeSymbol type, Schema schema) {
+        if (!isCompatible(type, schema, false)) {
+            reportDiagnostic(context, AvroDiagnosticCodes.INCOMPATIBLE_TYPE, location, type.signature(),
+                    schema.getType().getName());
+            return;
+        }
+        TypeSymbol referredType = getReferredType(type);
+        if (referredType.typeKind() != TypeDescKind.RECORD) {
+            return;
+        }
+        for (Map.Entry<String, RecordFieldSymbol> field : getFields((RecordTypeSymbol) referredType).entrySet()) {
+            RecordFieldSymbol fieldSymbol = field.getValue();
+            if (!fieldSymbol.isOptional() && !fieldSymbol.hasDefaultValue()
+                    && schema.getField(field.getKey()) == null) {
+                reportDiagnostic(context, AvroDiagnosticCodes.FIELD_NOT_IN_SCHEMA, location, field.getKey(),
+                        type.signature(), schema.getFullName());
+            }
+        }
+    }
+
+    // Only the types whose Avro counterpart is unambiguous are checked. Unions and logical types are accepted.
+    private static boolean isCompatible(TypeSymbol type, Schema schema, boolean isSerialized) {
+        if (schema.getLogicalType() != null || schema.getType() == Schema.Type.UNION) {
+            return true;
+        }
+        return switch (getReferredType(type).typeKind()) {
+            case RECORD -> schema.getType() == Schema.Type.RECORD;
+            case INT -> schema.getType() == Schema.Type.INT || schema.getType() == Schema.Type.LONG
+                    || isSerialized && schema.getType() == Schema.Type.DOUBLE;
+            case FLOAT -> schema.getType() == Schema.Type.FLOAT || schema.getType() == Schema.Type.DOUBLE;
+            case STRING -> schema.getType() == Schema.Type.STRING || schema.getType() == Schema.Type.ENUM;
+            case BOOLEAN -> schema.getType() == Schema.Type.BOOLEAN;
+            default -> true;
+        };
+    }
+
+    private static Map<String, RecordFieldSymbol> getFields(RecordTypeSymbol recordType) {
+        Map<String, RecordFieldSymbol> fields = new HashMap<>();
+        for (Map.Entry<String, RecordFieldSymbol> field : recordType.fieldDescriptors().entrySet()) {
+            String name = field.getKey();
+            fields.put(name.startsWith("'") ? name.substring(1) : name, field.getValue());
+        }
+        return fields;
+    }
+}
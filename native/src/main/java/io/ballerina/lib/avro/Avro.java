@@ -18,15 +18,34 @@
 
 package io.ballerina.lib.avro;
 
+import io.ballerina.lib.avro.channel.ChannelUtils;
+import io.ballerina.lib.avro.channel.Framing;
+import io.ballerina.lib.avro.compression.DictionaryCodec;
+import io.ballerina.lib.avro.compression.DictionaryTrainer;
 import io.ballerina.lib.avro.deserialize.DeserializeFactory;
 import io.ballerina.lib.avro.deserialize.Deserializer;
 import io.ballerina.lib.avro.deserialize.visitor.DeserializeVisitor;
+import io.ballerina.lib.avro.plan.ByteReader;
+import io.ballerina.lib.avro.plan.ByteWriter;
+import io.ballerina.lib.avro.plan.DatumProfiler;
+import io.ballerina.lib.avro.plan.SchemaPlans;
 import io.ballerina.lib.avro.serialize.MessageFactory;
 import io.ballerina.lib.avro.serialize.Serializer;
 import io.ballerina.lib.avro.serialize.visitor.SerializeVisitor;
+import io.ballerina.lib.avro.transcode.SchemaMigration;
+import io.ballerina.lib.avro.transcode.Transcoder;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import org.apache.avro.Schema;
@@ -38,52 +57,552 @@ import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.DatumWriter;
 import org.apache.avro.io.DecoderFactory;
 import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.io.JsonDecoder;
+import org.apache.avro.io.JsonEncoder;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import static io.ballerina.lib.avro.ModuleUtils.getModule;
+import static io.ballerina.lib.avro.Utils.AVRO_DECODE_CACHE;
+import static io.ballerina.lib.avro.Utils.AVRO_DICTIONARY;
+import static io.ballerina.lib.avro.Utils.AVRO_INCREMENTAL_ENCODER;
+import static io.ballerina.lib.avro.Utils.AVRO_METRICS;
+import static io.ballerina.lib.avro.Utils.AVRO_MIGRATIONS;
+import static io.ballerina.lib.avro.Utils.AVRO_PLANS;
 import static io.ballerina.lib.avro.Utils.AVRO_SCHEMA;
+import static io.ballerina.lib.avro.Utils.COMPRESSION_ERROR;
+import static io.ballerina.lib.avro.Utils.DATUM_STREAM;
+import static io.ballerina.lib.avro.Utils.DECODE_CACHE_ERROR;
+import static io.ballerina.lib.avro.Utils.DECODE_STREAM;
 import static io.ballerina.lib.avro.Utils.DESERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.JSON_TRANSCODING_ERROR;
+import static io.ballerina.lib.avro.Utils.MIGRATION_ERROR;
+import static io.ballerina.lib.avro.Utils.PREPARATION_ERROR;
+import static io.ballerina.lib.avro.Utils.PROFILING_ERROR;
+import static io.ballerina.lib.avro.Utils.SCHEMA_ERROR;
 import static io.ballerina.lib.avro.Utils.SERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.VALIDATION_ERROR;
 import static io.ballerina.lib.avro.Utils.createError;
 
 public final class Avro {
 
+    private static final String DICTIONARY_TYPE = "Dictionary";
+    private static final BString DICTIONARY_ID = StringUtils.fromString("id");
+    private static final BString DICTIONARY_CONTENT = StringUtils.fromString("content");
+    private static final String FIELD_PROFILE_TYPE = "FieldProfile";
+    private static final BString PROFILE_PATH = StringUtils.fromString("path");
+    private static final BString PROFILE_COUNT = StringUtils.fromString("count");
+    private static final BString PROFILE_BYTES = StringUtils.fromString("bytes");
+    private static final BString PROFILE_ITEMS = StringUtils.fromString("items");
+    private static final BString PROFILE_LENGTH = StringUtils.fromString("length");
+
     private Avro() {}
 
-    public static void generateSchema(BObject schemaObject, BString schema) {
-        Schema.Parser parser = new Schema.Parser();
-        Schema nativeSchema = parser.parse(schema.getValue());
-        schemaObject.addNativeData(AVRO_SCHEMA, nativeSchema);
+    public static Object generateSchema(BObject schemaObject, BString schema) {
+        SchemaCache.Entry entry;
+        try {
+            entry = SchemaCache.get(schema.getValue());
+        } catch (Exception e) {
+            return createError(SCHEMA_ERROR, e);
+        }
+        schemaObject.addNativeData(AVRO_SCHEMA, entry.schema());
+        schemaObject.addNativeData(AVRO_MIGRATIONS, entry.migrations());
+        schemaObject.addNativeData(AVRO_PLANS, entry.plans());
+        schemaObject.addNativeData(AVRO_INCREMENTAL_ENCODER, entry.incrementalEncoder());
+        SchemaMetrics metrics = SchemaMetrics.of(entry.schema());
+        if (metrics != null) {
+            schemaObject.addNativeData(AVRO_METRICS, metrics);
+        }
+        return null;
+    }
+
+    public static Object setDictionary(BObject schemaObject, BMap<BString, Object> dictionary) {
+        try {
+            DictionaryCodec codec = new DictionaryCodec(Math.toIntExact((Long) dictionary.get(DICTIONARY_ID)),
+                    ((BArray) dictionary.get(DICTIONARY_CONTENT)).getBytes());
+            schemaObject.addNativeData(AVRO_DICTIONARY, codec);
+            return null;
+        } catch (Exception e) {
+            return createError(COMPRESSION_ERROR, e);
+        }
+    }
+
+    public static Object trainDictionary(BArray samples, long id, long maxSize) {
+        try {
+            if (id < 0 || id > DictionaryCodec.MAX_ID) {
+                throw new IllegalArgumentException("The dictionary id must be between 0 and "
+                        + DictionaryCodec.MAX_ID + ": " + id);
+            }
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("The dictionary size must be positive: " + maxSize);
+            }
+            List<byte[]> sampleBytes = new ArrayList<>(samples.size());
+            for (int i = 0; i < samples.size(); i++) {
+                sampleBytes.add(((BArray) samples.get(i)).getBytes());
+            }
+            byte[] content = DictionaryTrainer.train(sampleBytes,
+                    (int) Math.min(maxSize, DictionaryCodec.MAX_DICTIONARY_SIZE));
+            if (content.length == 0) {
+                throw new IllegalArgumentException("The samples have no byte sequences in common to build a "
+                        + "dictionary from");
+            }
+            BMap<BString, Object> dictionary = ValueCreator.createRecordValue(getModule(), DICTIONARY_TYPE);
+            dictionary.put(DICTIONARY_ID, id);
+            dictionary.put(DICTIONARY_CONTENT, ValueCreator.createArrayValue(content));
+            return dictionary;
+        } catch (Exception e) {
+            return createError(COMPRESSION_ERROR, e);
+        }
+    }
+
+    public static BMap<BString, Object> getSchemaCacheStatistics() {
+        return SchemaCache.getStatistics();
+    }
+
+    public static Object prepare(BObject schemaObject, BTypedesc targetType, boolean warmUp) {
+        SchemaPlans plans = (SchemaPlans) schemaObject.getNativeData(AVRO_PLANS);
+        try {
+            plans.prepare(targetType.getDescribingType());
+            if (!warmUp) {
+                return null;
+            }
+            byte[] sample = plans.createSample(targetType.getDescribingType());
+            if (sample == null) {
+                return null;
+            }
+            Object data = deserialize(schemaObject, sample, 0, sample.length, targetType.getDescribingType());
+            Object serializedData = encode(schemaObject, data);
+            return serializedData instanceof BError ? serializedData : null;
+        } catch (Exception | StackOverflowError e) {
+            return createError(PREPARATION_ERROR, e);
+        }
     }
 
     public static Object toAvro(BObject schemaObject, Object data) {
+        SchemaMetrics metrics = (SchemaMetrics) schemaObject.getNativeData(AVRO_METRICS);
+        if (metrics == null) {
+            return encode(schemaObject, data);
+        }
+        long startTime = System.nanoTime();
+        Object encoded = encode(schemaObject, data);
+        if (encoded instanceof BArray payload) {
+            metrics.recordEncode(startTime, payload.size());
+        } else {
+            metrics.recordEncodeError(startTime);
+        }
+        return encoded;
+    }
+
+    private static Object encode(BObject schemaObject, Object data) {
+        try {
+            Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+            SchemaPlans plans = (SchemaPlans) schemaObject.getNativeData(AVRO_PLANS);
+            byte[] encoded = null;
+            SerializationEvent event = SerializationEvent.start();
+            try {
+                encoded = plans.encode(data);
+                event.complete();
+            } finally {
+                // A value that is not handled by the plan is encoded by the visitors, which report their own phases.
+                if (encoded != null || !event.isCompleted()) {
+                    event.report(SerializationEvent.ENCODE, SerializationEvent.PLAN, schema,
+                            encoded == null ? 0 : encoded.length, null);
+                }
+            }
+            if (encoded == null) {
+                encoded = serializeOrEncodeNow(schema, plans, data);
+            }
+            DictionaryCodec codec = (DictionaryCodec) schemaObject.getNativeData(AVRO_DICTIONARY);
+            if (codec == null) {
+                return ValueCreator.createArrayValue(encoded);
+            }
+            byte[] compressed;
+            event = SerializationEvent.start();
+            try {
+                compressed = codec.compress(encoded);
+                event.complete();
+            } finally {
+                event.report(SerializationEvent.ENCODE, SerializationEvent.COMPRESSION, schema, encoded.length, null);
+            }
+            return ValueCreator.createArrayValue(compressed);
+        } catch (Exception | StackOverflowError e) {
+            return Utils.createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    // The visitors reject values with avro:Raw fields, which are only written by the plan.
+    private static byte[] serializeOrEncodeNow(Schema schema, SchemaPlans plans, Object data) throws Exception {
+        try {
+            return serialize(schema, data);
+        } catch (Exception e) {
+            if (!plans.containsRaw(TypeUtils.getType(data))) {
+                throw e;
+            }
+            byte[] encoded = plans.encodeNow(data);
+            if (encoded == null) {
+                throw e;
+            }
+            return encoded;
+        }
+    }
+
+    public static Object encodedSize(BObject schemaObject, Object data) {
+        try {
+            long size = ((SchemaPlans) schemaObject.getNativeData(AVRO_PLANS)).encodedSize(data);
+            if (size >= 0) {
+                return size;
+            }
+            return (long) serialize((Schema) schemaObject.getNativeData(AVRO_SCHEMA), data).length;
+        } catch (Exception | StackOverflowError e) {
+            return Utils.createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object validate(BObject schemaObject, Object data) {
+        try {
+            if (((SchemaPlans) schemaObject.getNativeData(AVRO_PLANS)).validate(data)) {
+                return null;
+            }
+            // The value is not handled by the plan, and the visitors report the error if any.
+            serialize((Schema) schemaObject.getNativeData(AVRO_SCHEMA), data);
+            return null;
+        } catch (Exception | StackOverflowError e) {
+            return Utils.createError(VALIDATION_ERROR, e);
+        }
+    }
+
+    public static Object fromAvro(BObject schemaObject, BArray payload, BTypedesc typeParam) {
+        return fromAvro(schemaObject, payload.getByteArray(), 0, payload.size(), typeParam.getDescribingType());
+    }
+
+    public static Object fromAvroSlice(BObject schemaObject, BArray payload, long offset, long length,
+                                       BTypedesc typeParam) {
+        if (offset < 0 || length < 0 || offset > payload.size() - length) {
+            return createError(DESERIALIZATION_ERROR, new IndexOutOfBoundsException("The slice of length " + length
+                    + " at offset " + offset + " is out of the bounds of the data of length " + payload.size()));
+        }
+        return fromAvro(schemaObject, payload.getByteArray(), (int) offset, (int) length,
+                typeParam.getDescribingType());
+    }
+
+    private static Object fromAvro(BObject schemaObject, byte[] data, int offset, int length, Type targetType) {
+        SchemaMetrics metrics = (SchemaMetrics) schemaObject.getNativeData(AVRO_METRICS);
+        if (metrics == null) {
+            return decode(schemaObject, data, offset, length, targetType);
+        }
+        long startTime = System.nanoTime();
+        Object decoded = decode(schemaObject, data, offset, length, targetType);
+        if (decoded instanceof BError) {
+            metrics.recordDecodeError(startTime);
+        } else {
+            metrics.recordDecode(startTime, length);
+        }
+        return decoded;
+    }
+
+    // The payload is decoded in place, as the backing array of a byte array is not copied by getByteArray.
+    private static Object decode(BObject schemaObject, byte[] data, int offset, int length, Type targetType) {
+        DecodeCache cache = targetType.isReadOnly() ? (DecodeCache) schemaObject.getNativeData(AVRO_DECODE_CACHE)
+                : null;
+        DecodeCache.Key key = null;
+        if (cache != null) {
+            key = new DecodeCache.Key(data, offset, length, targetType);
+            Object cached = cache.get(key);
+            if (cached != DecodeCache.NOT_CACHED) {
+                return cached;
+            }
+        }
+        try {
+            Object value;
+            DictionaryCodec codec = (DictionaryCodec) schemaObject.getNativeData(AVRO_DICTIONARY);
+            if (codec != null) {
+                byte[] decompressed = null;
+                SerializationEvent event = SerializationEvent.start();
+                try {
+                    decompressed = codec.decompress(data, offset, length);
+                    event.complete();
+                } finally {
+                    event.report(SerializationEvent.DECODE, SerializationEvent.COMPRESSION,
+                            (Schema) schemaObject.getNativeData(AVRO_SCHEMA),
+                            decompressed == null ? length : decompressed.length, targetType);
+                }
+                value = deserialize(schemaObject, decompressed, 0, decompressed.length, targetType);
+            } else {
+                value = deserialize(schemaObject, data, offset, length, targetType);
+            }
+            if (cache != null) {
+                cache.put(key, value);
+            }
+            return value;
+        } catch (Exception | StackOverflowError e) {
+            return createError(DESERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object profile(BObject schemaObject, BArray samples) {
         Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        DictionaryCodec codec = (DictionaryCodec) schemaObject.getNativeData(AVRO_DICTIONARY);
+        DatumProfiler profiler = new DatumProfiler();
+        for (int i = 0; i < samples.size(); i++) {
+            BArray sample = (BArray) samples.get(i);
+            try {
+                ByteReader in;
+                if (codec != null) {
+                    in = new ByteReader(codec.decompress(sample.getByteArray(), 0, sample.size()));
+                } else {
+                    in = new ByteReader(sample.getByteArray(), 0, sample.size());
+                }
+                profiler.profile(schema, in);
+                if (in.remaining() > 0) {
+                    throw new IOException("Malformed data. " + in.remaining() + " bytes remain after the datum");
+                }
+            } catch (Exception | StackOverflowError e) {
+                return createError(PROFILING_ERROR, new IllegalArgumentException("Sample " + i + ": "
+                        + e.getMessage(), e));
+            }
+        }
+        List<Object> profiles = new ArrayList<>();
+        for (DatumProfiler.Entry entry : profiler.getEntries()) {
+            BMap<BString, Object> profile = ValueCreator.createRecordValue(getModule(), FIELD_PROFILE_TYPE);
+            profile.put(PROFILE_PATH, StringUtils.fromString(entry.path()));
+            profile.put(PROFILE_COUNT, entry.count());
+            profile.put(PROFILE_BYTES, entry.bytes());
+            profile.put(PROFILE_ITEMS, entry.items());
+            profile.put(PROFILE_LENGTH, entry.length());
+            profiles.add(profile);
+        }
+        // The entry of the whole datum is always there, so the record type is taken from it.
+        ArrayType arrayType = TypeCreator.createArrayType(((BMap<?, ?>) profiles.get(0)).getType());
+        return ValueCreator.createArrayValue(profiles.toArray(), arrayType);
+    }
+
+    public static Object setDecodeCacheSize(BObject schemaObject, long size) {
+        if (size < 0) {
+            return createError(DECODE_CACHE_ERROR,
+                    new IllegalArgumentException("The decode cache size must not be negative: " + size));
+        }
+        if (size > 0) {
+            schemaObject.addNativeData(AVRO_DECODE_CACHE, new DecodeCache(size));
+        }
+        return null;
+    }
+
+    public static BMap<BString, Object> getDecodeCacheStatistics(BObject schemaObject) {
+        DecodeCache cache = (DecodeCache) schemaObject.getNativeData(AVRO_DECODE_CACHE);
+        return (cache == null ? new DecodeCache(0) : cache).getStatistics();
+    }
+
+    public static Object encodeFrames(BObject schemaObject, BArray data, BString framing) {
+        if (ChannelUtils.hasDictionary(schemaObject)) {
+            return ChannelUtils.createDictionaryError(SERIALIZATION_ERROR);
+        }
+        SchemaPlans plans = (SchemaPlans) schemaObject.getNativeData(AVRO_PLANS);
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        boolean isLengthPrefixed = Framing.from(framing) == Framing.LENGTH_PREFIXED;
+        ByteWriter out = new ByteWriter();
+        ByteWriter frame = isLengthPrefixed ? new ByteWriter() : out;
+        try {
+            for (int i = 0; i < data.size(); i++) {
+                Object value = data.get(i);
+                if (isLengthPrefixed) {
+                    frame.reset();
+                }
+                if (!plans.encode(value, frame)) {
+                    byte[] encoded = serialize(schema, value);
+                    frame.writeFixed(encoded, 0, encoded.length);
+                }
+                if (isLengthPrefixed) {
+                    out.writeLong(frame.size());
+                    out.writeFixed(frame);
+                }
+            }
+            return ValueCreator.createArrayValue(out.toByteArray());
+        } catch (Exception | StackOverflowError e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static BStream fromChannel(BObject schemaObject, BObject channel, BTypedesc typeParam, BString framing) {
+        BObject iterator = ValueCreator.createObjectValue(getModule(), DATUM_STREAM, schemaObject, channel,
+                typeParam, framing);
+        return ValueCreator.createStreamValue(
+                TypeCreator.createStreamType(typeParam.getDescribingType(), PredefinedTypes.TYPE_NULL), iterator);
+    }
+
+    public static BStream decodeStream(BObject schemaObject, BStream data, BTypedesc typeParam, long parallelism) {
+        BObject iterator = ValueCreator.createObjectValue(getModule(), DECODE_STREAM, schemaObject, data, typeParam,
+                parallelism);
+        return ValueCreator.createStreamValue(
+                TypeCreator.createStreamType(typeParam.getDescribingType(), PredefinedTypes.TYPE_NULL), iterator);
+    }
+
+    /**
+     * Serializes a value with the visitors.
+     *
+     * @param schema the schema of the value
+     * @param data   the Ballerina value
+     * @return the Avro encoded value
+     * @throws Exception if the value does not match with the schema
+     */
+    public static byte[] serialize(Schema schema, Object data) throws Exception {
+        return serialize(schema, data, false);
+    }
+
+    /**
+     * Serializes a value of a part of a schema, such as a record field or an item of an array, with the visitors. The
+     * value follows the rules of record fields, which also accept union schemas.
+     *
+     * @param schema the schema of the value
+     * @param data   the Ballerina value
+     * @return the Avro encoded value
+     * @throws Exception if the value does not match with the schema
+     */
+    public static byte[] serializeValue(Schema schema, Object data) throws Exception {
+        return serialize(schema, data, true);
+    }
+
+    private static byte[] serialize(Schema schema, Object data, boolean isField) throws Exception {
+        SerializationEvent buildEvent = SerializationEvent.start();
+        SerializationEvent writeEvent = null;
+        int size = 0;
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             SerializeVisitor serializeVisitor = new SerializeVisitor();
-            Serializer serializer = MessageFactory.createMessage(schema);
-            Object avroData = Objects.requireNonNull(serializer).convert(serializeVisitor, data);
+            Object avroData;
+            if (isField) {
+                avroData = serializeVisitor.serializeField(schema, data);
+            } else {
+                Serializer serializer = MessageFactory.createMessage(schema);
+                avroData = Objects.requireNonNull(serializer).convert(serializeVisitor, data);
+            }
+            buildEvent.complete();
+            writeEvent = SerializationEvent.start();
             DatumWriter<Object> writer = new GenericDatumWriter<>(schema);
             BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
             writer.write(avroData, encoder);
             encoder.flush();
-            return ValueCreator.createArrayValue(outputStream.toByteArray());
-        } catch (Exception e) {
-            return Utils.createError(SERIALIZATION_ERROR, e);
+            byte[] encoded = outputStream.toByteArray();
+            writeEvent.complete();
+            size = encoded.length;
+            return encoded;
+        } finally {
+            // The size of the value is only known once it is written, so the build phase is reported afterwards.
+            buildEvent.report(SerializationEvent.ENCODE, SerializationEvent.BUILD, schema, size, null);
+            if (writeEvent != null) {
+                writeEvent.report(SerializationEvent.ENCODE, SerializationEvent.WRITE, schema, size, null);
+            }
         }
     }
 
-    public static Object fromAvro(BObject schemaObject, BArray payload, BTypedesc typeParam) {
+    /**
+     * Deserializes an Avro encoded value held in a part of an array.
+     *
+     * @param schemaObject the {@code avro:Schema} object
+     * @param data         the array holding the encoded value
+     * @param offset       the index of the first byte of the encoded value
+     * @param length       the length of the encoded value
+     * @param targetType   the expected Ballerina type
+     * @return the Ballerina value
+     * @throws Exception if the data does not match with the schema or the target type
+     */
+    public static Object deserialize(BObject schemaObject, byte[] data, int offset, int length, Type targetType)
+            throws Exception {
         Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
-        DatumReader<Object> datumReader = new GenericDatumReader<>(schema);
-        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload.getBytes(), null);
+        Object decoded = SchemaPlans.NOT_DECODED;
+        SerializationEvent event = SerializationEvent.start();
+        try {
+            decoded = ((SchemaPlans) schemaObject.getNativeData(AVRO_PLANS)).decode(data, offset, length, targetType);
+            event.complete();
+        } finally {
+            // Data that is not handled by the plan is decoded by the visitors, which report their own phases.
+            if (decoded != SchemaPlans.NOT_DECODED || !event.isCompleted()) {
+                event.report(SerializationEvent.DECODE, SerializationEvent.PLAN, schema, length, targetType);
+            }
+        }
+        if (decoded != SchemaPlans.NOT_DECODED) {
+            return decoded;
+        }
+        Object avroData;
+        event = SerializationEvent.start();
+        try {
+            DatumReader<Object> datumReader = new OrderedDatumReader(schema);
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, offset, length, null);
+            avroData = datumReader.read(null, decoder);
+            event.complete();
+        } finally {
+            event.report(SerializationEvent.DECODE, SerializationEvent.READ, schema, length, targetType);
+        }
+        event = SerializationEvent.start();
         try {
-            Object data = datumReader.read(payload, decoder);
             DeserializeVisitor deserializeVisitor = new DeserializeVisitor();
-            Deserializer deserializer = DeserializeFactory.generateDeserializer(schema, typeParam.getDescribingType());
-            return Objects.requireNonNull(deserializer).accept(deserializeVisitor, data);
-        } catch (Exception e) {
-            return createError(DESERIALIZATION_ERROR, e);
+            Deserializer deserializer = DeserializeFactory.generateDeserializer(schema, targetType);
+            Object value = Objects.requireNonNull(deserializer).accept(deserializeVisitor, avroData);
+            event.complete();
+            return value;
+        } finally {
+            event.report(SerializationEvent.DECODE, SerializationEvent.BUILD, schema, length, targetType);
+        }
+    }
+
+    public static Object toJsonBytes(BObject schemaObject, BArray payload) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            BinaryDecoder decoder = DecoderFactory.get()
+                    .binaryDecoder(payload.getByteArray(), 0, payload.size(), null);
+            JsonEncoder encoder = EncoderFactory.get().jsonEncoder(schema, outputStream);
+            new Transcoder().transcode(schema, decoder, encoder);
+            encoder.flush();
+            return ValueCreator.createArrayValue(outputStream.toByteArray());
+        } catch (Exception | StackOverflowError e) {
+            return createError(JSON_TRANSCODING_ERROR, e);
+        }
+    }
+
+    public static Object fromJsonBytes(BObject schemaObject, BArray payload) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            JsonDecoder decoder = DecoderFactory.get()
+                    .jsonDecoder(schema, new ByteArrayInputStream(payload.getByteArray(), 0, payload.size()));
+            BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+            new Transcoder().transcode(schema, decoder, encoder);
+            encoder.flush();
+            return ValueCreator.createArrayValue(outputStream.toByteArray());
+        } catch (Exception | StackOverflowError e) {
+            return createError(JSON_TRANSCODING_ERROR, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object migrate(BObject schemaObject, BArray payload, BObject writerSchemaObject) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        Schema writerSchema = (Schema) writerSchemaObject.getNativeData(AVRO_SCHEMA);
+        Map<Schema, SchemaMigration> migrations =
+                (Map<Schema, SchemaMigration>) schemaObject.getNativeData(AVRO_MIGRATIONS);
+        try {
+            SchemaMigration migration = migrations.computeIfAbsent(writerSchema,
+                    writer -> new SchemaMigration(writer, schema));
+            return ValueCreator.createArrayValue(migration.migrate(payload.getByteArray(), 0, payload.size()));
+        } catch (Exception | StackOverflowError e) {
+            return createError(MIGRATION_ERROR, e);
+        }
+    }
+
+    // Keeps the entries of decoded maps in the order they were written, as the plans of a schema do.
+    private static final class OrderedDatumReader extends GenericDatumReader<Object> {
+
+        OrderedDatumReader(Schema schema) {
+            super(schema);
+        }
+
+        @Override
+        protected Object newMap(Object old, int size) {
+            return new LinkedHashMap<>(size);
         }
     }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import static io.ballerina.lib.avro.ModuleUtils.getModule;
+
+/**
+ * A cache of the readonly values deserialized by an {@code avro:Schema} object, keyed by the serialized bytes and
+ * the target type. A readonly value cannot change, so the same value is returned for a repeated payload. The least
+ * recently used value is evicted when the cache is full.
+ *
+ * @since 1.2.1
+ */
+public final class DecodeCache {
+
+    /**
+     * Returned by {@link #get(Key)} when the payload is not in the cache.
+     */
+    public static final Object NOT_CACHED = new Object();
+
+    private static final String STATISTICS_TYPE = "DecodeCacheStatistics";
+    private static final BString HITS = StringUtils.fromString("hits");
+    private static final BString MISSES = StringUtils.fromString("misses");
+    private static final BString EVICTIONS = StringUtils.fromString("evictions");
+    private static final BString SIZE = StringUtils.fromString("size");
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Object> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public DecodeCache(long capacity) {
+        this.capacity = (int) Math.min(capacity, Integer.MAX_VALUE);
+    }
+
+    public synchronized Object get(Key key) {
+        Object value = entries.getOrDefault(key, NOT_CACHED);
+        if (value == NOT_CACHED) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return value;
+    }
+
+    public synchronized void put(Key key, Object value) {
+        entries.put(key.detach(), value);
+        Iterator<Key> keys = entries.keySet().iterator();
+        while (entries.size() > capacity && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized BMap<BString, Object> getStatistics() {
+        BMap<BString, Object> statistics = ValueCreator.createRecordValue(getModule(), STATISTICS_TYPE);
+        statistics.put(HITS, hits);
+        statistics.put(MISSES, misses);
+        statistics.put(EVICTIONS, evictions);
+        statistics.put(SIZE, (long) entries.size());
+        return statistics;
+    }
+
+    /**
+     * The serialized bytes of a value and the type it is deserialized to. A key refers to the bytes of the payload
+     * until it is stored in the cache.
+     */
+    public static final class Key {
+
+        private final byte[] data;
+        private final int offset;
+        private final int length;
+        private final Type targetType;
+        private final int hash;
+
+        public Key(byte[] data, int offset, int length, Type targetType) {
+            this(data, offset, length, targetType, hash(data, offset, length, targetType));
+        }
+
+        private Key(byte[] data, int offset, int length, Type targetType, int hash) {
+            this.data = data;
+            this.offset = offset;
+            this.length = length;
+            this.targetType = targetType;
+            this.hash = hash;
+        }
+
+        private Key detach() {
+            return new Key(Arrays.copyOfRange(data, offset, offset + length), 0, length, targetType, hash);
+        }
+
+        private static int hash(byte[] data, int offset, int length, Type targetType) {
+            int hash = 31 * length + System.identityHashCode(targetType);
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + data[i];
+            }
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && hash == key.hash && targetType == key.targetType
+                    && Arrays.equals(data, offset, offset + length, key.data, key.offset, key.offset + key.length);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -18,6 +18,8 @@
 
 package io.ballerina.lib.avro;
 
+import io.ballerina.lib.avro.compression.DictionaryCodec;
+import io.ballerina.lib.avro.plan.SchemaPlans;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
 
@@ -41,4 +43,24 @@ public final class ModuleUtils {
         avroModule = env.getCurrentModule();
     }
 
+    @SuppressWarnings("unused")
+    public static void setSchemaCacheSize(long size) {
+        SchemaCache.setCapacity(size);
+    }
+
+    @SuppressWarnings("unused")
+    public static void setPlanCompilationThreshold(long threshold) {
+        SchemaPlans.setCompilationThreshold(threshold);
+    }
+
+    @SuppressWarnings("unused")
+    public static void setMaxDecompressionRatio(long ratio) {
+        DictionaryCodec.setMaxDecompressionRatio(ratio);
+    }
+
+    @SuppressWarnings("unused")
+    public static void setFlightRecorderThresholds(long latency, long size) {
+        SerializationEvent.setThresholds(latency, size);
+    }
+
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import org.apache.avro.Schema;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static io.ballerina.lib.avro.Utils.getSchemaKey;
+
+/**
+ * Schemas parsed while the class is initialized. The files are listed in the {@code ballerina.avro.preloadedSchemas}
+ * system property, separated by commas. In a GraalVM native image, this class and the Avro, Jackson and SLF4J classes
+ * that a parsed {@link Schema} refers to are initialized at image build time, so the parsed schemas are part of the
+ * image heap, and neither their files are read nor their JSON is parsed when the executable runs. A preloaded schema
+ * is kept even if it is evicted from the {@link SchemaCache}.
+ *
+ * @since 1.2.1
+ */
+final class PreloadedSchemas {
+
+    static final String PRELOADED_SCHEMAS_PROPERTY = "ballerina.avro.preloadedSchemas";
+
+    private static final PreloadedSchemas PRELOADED = load(System.getProperty(PRELOADED_SCHEMAS_PROPERTY, ""));
+
+    private final Map<String, Schema> schemas;
+    private final String failure;
+
+    private PreloadedSchemas(Map<String, Schema> schemas, String failure) {
+        this.schemas = schemas;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the preloaded schema with the given key.
+     *
+     * @param schemaKey the schema text without insignificant whitespace
+     * @return the parsed schema, or {@code null} if the schema is not preloaded
+     * @throws IllegalStateException if a listed schema file could not be read or parsed
+     */
+    static Schema get(String schemaKey) {
+        return PRELOADED.find(schemaKey);
+    }
+
+    Schema find(String schemaKey) {
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+        return schemas.get(schemaKey);
+    }
+
+    // A schema that cannot be read or parsed is not reported while the class is initialized, which would fail the
+    // image build or leave the class unusable, but by every lookup, so that schemas cannot be created until the
+    // listed files are fixed.
+    static PreloadedSchemas load(String paths) {
+        Map<String, Schema> schemas = new HashMap<>();
+        StringJoiner failures = new StringJoiner("; ");
+        for (String path : paths.split(",")) {
+            if (path.isBlank()) {
+                continue;
+            }
+            try {
+                String schemaText = Files.readString(Path.of(path.strip()), StandardCharsets.UTF_8);
+                schemas.put(getSchemaKey(schemaText), new Schema.Parser().parse(schemaText));
+            } catch (IOException | RuntimeException e) {
+                failures.add("'" + path.strip() + "': " + e.getMessage());
+            }
+        }
+        String failure = failures.length() == 0 ? null
+                : "Failed to preload the schemas listed in the '" + PRELOADED_SCHEMAS_PROPERTY + "' system property: "
+                + failures;
+        return new PreloadedSchemas(Map.copyOf(schemas), failure);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import io.ballerina.lib.avro.channel.IncrementalEncoder;
+import io.ballerina.lib.avro.plan.SchemaPlans;
+import io.ballerina.lib.avro.transcode.SchemaMigration;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.ballerina.lib.avro.ModuleUtils.getModule;
+import static io.ballerina.lib.avro.Utils.getSchemaKey;
+
+/**
+ * A process-wide cache of parsed schemas. The {@link Schema} and its compiled plans and migrations are shared by
+ * every {@code avro:Schema} object created from the same schema text. A schema that was not used recently is evicted
+ * when the cache is full.
+ * <p>
+ * Lookups take no lock. The entries are evicted in a separate step, which only one caller runs at a time, after a
+ * new schema makes the cache exceed its capacity. Each eviction removes the least recently used of a few sampled
+ * entries, so that it does not depend on the number of cached schemas.
+ *
+ * @since 1.2.1
+ */
+public final class SchemaCache {
+
+    private static final String STATISTICS_TYPE = "SchemaCacheStatistics";
+    private static final BString HITS = StringUtils.fromString("hits");
+    private static final BString MISSES = StringUtils.fromString("misses");
+    private static final BString EVICTIONS = StringUtils.fromString("evictions");
+    private static final BString SIZE = StringUtils.fromString("size");
+
+    private static volatile int capacity = 256;
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    private static final LongAdder EVICTION_COUNT = new LongAdder();
+
+    // The schema text without insignificant whitespace is used as the key, since the parsing canonical form leaves
+    // out attributes such as logical types and defaults that change how a schema is used.
+    private static final ConcurrentHashMap<String, CachedEntry> ENTRIES = new ConcurrentHashMap<>();
+    private static final Object EVICTION_LOCK = new Object();
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    // Walks the entries across evictions, so that each eviction samples other entries. Guarded by EVICTION_LOCK.
+    private static Iterator<Map.Entry<String, CachedEntry>> sampler = Collections.emptyIterator();
+
+    private SchemaCache() {}
+
+    /**
+     * The parsed form of a schema and the state derived from it.
+     *
+     * @param schema             the parsed schema
+     * @param plans              the compiled plans of the schema
+     * @param migrations         the migrations from other writer schemas to the schema
+     * @param incrementalEncoder the encoder of values with streams of the schema
+     */
+    public record Entry(Schema schema, SchemaPlans plans, Map<Schema, SchemaMigration> migrations,
+                        IncrementalEncoder incrementalEncoder) {
+
+        static Entry of(String schemaKey, String schemaText) {
+            Schema schema = PreloadedSchemas.get(schemaKey);
+            if (schema == null) {
+                schema = new Schema.Parser().parse(schemaText);
+            }
+            return new Entry(schema, new SchemaPlans(schema), new ConcurrentHashMap<>(),
+                    new IncrementalEncoder(schema));
+        }
+    }
+
+    // An entry with the time it was last used, which orders the entries for eviction.
+    private static final class CachedEntry {
+
+        private final Entry entry;
+        private volatile long lastUsed = System.nanoTime();
+
+        CachedEntry(Entry entry) {
+            this.entry = entry;
+        }
+
+        Entry use() {
+            lastUsed = System.nanoTime();
+            return entry;
+        }
+    }
+
+    public static Entry get(String schemaText) {
+        String schemaKey = getSchemaKey(schemaText);
+        CachedEntry cached = ENTRIES.get(schemaKey);
+        if (cached != null) {
+            HIT_COUNT.increment();
+            return cached.use();
+        }
+        MISS_COUNT.increment();
+        // Parsed outside the map; a schema parsed concurrently by two callers is stored once.
+        Entry entry = Entry.of(schemaKey, schemaText);
+        if (capacity <= 0) {
+            return entry;
+        }
+        cached = ENTRIES.putIfAbsent(schemaKey, new CachedEntry(entry));
+        if (cached != null) {
+            return cached.use();
+        }
+        if (ENTRIES.size() > capacity) {
+            evict();
+        }
+        return entry;
+    }
+
+    public static void setCapacity(long size) {
+        capacity = (int) Math.min(size, Integer.MAX_VALUE);
+        evict();
+    }
+
+    public static BMap<BString, Object> getStatistics() {
+        BMap<BString, Object> statistics = ValueCreator.createRecordValue(getModule(), STATISTICS_TYPE);
+        statistics.put(HITS, HIT_COUNT.sum());
+        statistics.put(MISSES, MISS_COUNT.sum());
+        statistics.put(EVICTIONS, EVICTION_COUNT.sum());
+        statistics.put(SIZE, (long) ENTRIES.size());
+        return statistics;
+    }
+
+    private static void evict() {
+        synchronized (EVICTION_LOCK) {
+            while (ENTRIES.size() > Math.max(capacity, 0)) {
+                Map.Entry<String, CachedEntry> eldest = sampleEldest();
+                if (eldest == null) {
+                    return;
+                }
+                if (ENTRIES.remove(eldest.getKey(), eldest.getValue())) {
+                    EVICTION_COUNT.increment();
+                }
+            }
+        }
+    }
+
+    // The sampler may return an entry that was removed after it was sampled, which the caller does not remove again.
+    private static Map.Entry<String, CachedEntry> sampleEldest() {
+        Map.Entry<String, CachedEntry> eldest = null;
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE; i++) {
+            if (!sampler.hasNext()) {
+                sampler = ENTRIES.entrySet().iterator();
+                if (!sampler.hasNext()) {
+                    break;
+                }
+            }
+            Map.Entry<String, CachedEntry> entry = sampler.next();
+            if (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed) {
+                eldest = entry;
+            }
+        }
+        return eldest;
+    }
+}
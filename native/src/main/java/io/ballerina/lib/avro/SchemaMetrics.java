@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.apache.avro.Schema;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The encode and decode metrics of a schema, published through the Ballerina observability metrics registry and
+ * tagged with the full name of the schema. The metrics of a schema are shared by every {@code avro:Schema} object
+ * with the same full name.
+ *
+ * @since 1.2.1
+ */
+public final class SchemaMetrics {
+
+    private static final String SCHEMA_TAG = "avro.schema";
+    private static final String OPERATION_TAG = "avro.operation";
+    private static final String ENCODE = "toAvro";
+    private static final String DECODE = "fromAvro";
+
+    private static final Map<String, SchemaMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private final Operation encode;
+    private final Operation decode;
+
+    SchemaMetrics(String schemaName, MetricRegistry registry) {
+        this.encode = new Operation(registry, schemaName, ENCODE);
+        this.decode = new Operation(registry, schemaName, DECODE);
+    }
+
+    /**
+     * Returns the metrics of the given schema, or {@code null} when metrics are not enabled, so that nothing is
+     * measured unless the metrics are published.
+     *
+     * @param schema the schema
+     * @return the metrics of the schema, or {@code null} when metrics are not enabled
+     */
+    public static SchemaMetrics of(Schema schema) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return null;
+        }
+        return METRICS.computeIfAbsent(schema.getFullName(),
+                schemaName -> new SchemaMetrics(schemaName, DefaultMetricRegistry.getInstance()));
+    }
+
+    public void recordEncode(long startTime, int payloadSize) {
+        encode.record(startTime, payloadSize);
+    }
+
+    public void recordEncodeError(long startTime) {
+        encode.recordError(startTime);
+    }
+
+    public void recordDecode(long startTime, int payloadSize) {
+        decode.record(startTime, payloadSize);
+    }
+
+    public void recordDecodeError(long startTime) {
+        decode.recordError(startTime);
+    }
+
+    // The counters of the registry accumulate into striped adders, so strands that record concurrently do not
+    // contend on a single value.
+    private static final class Operation {
+
+        private final Counter calls;
+        private final Counter errors;
+        private final Gauge latency;
+        private final Gauge payloadSize;
+
+        Operation(MetricRegistry registry, String schemaName, String operation) {
+            Set<Tag> tags = Set.of(Tag.of(SCHEMA_TAG, schemaName), Tag.of(OPERATION_TAG, operation));
+            this.calls = registry.counter(new MetricId("avro_calls_total",
+                    "Total number of Avro encode or decode calls", tags));
+            this.errors = registry.counter(new MetricId("avro_errors_total",
+                    "Total number of failed Avro encode or decode calls", tags));
+            this.latency = registry.gauge(new MetricId("avro_latency_seconds",
+                    "Time taken to encode or decode a value", tags), StatisticConfig.DEFAULT);
+            this.payloadSize = registry.gauge(new MetricId("avro_payload_size_bytes",
+                    "Size of the encoded or decoded Avro payload", tags), StatisticConfig.DEFAULT);
+        }
+
+        void record(long startTime, int size) {
+            latency.setValue((System.nanoTime() - startTime) / 1E9);
+            calls.increment();
+            payloadSize.setValue(size);
+        }
+
+        void recordError(long startTime) {
+            latency.setValue((System.nanoTime() - startTime) / 1E9);
+            calls.increment();
+            errors.increment();
+        }
+    }
+}
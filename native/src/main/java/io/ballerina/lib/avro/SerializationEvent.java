@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import io.ballerina.runtime.api.types.Type;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apache.avro.Schema;
+
+/**
+ * A Java Flight Recorder event for a phase of an encode or decode call that failed, or that took longer or handled a
+ * larger payload than the configured thresholds. Nothing is measured unless the event is enabled in a recording.
+ *
+ * @since 1.2.1
+ */
+@Name("ballerina.avro.Serialization")
+@Label("Avro Serialization")
+@Category({"Ballerina", "Avro"})
+@Description("A slow or oversized phase of an Avro encode or decode call")
+@StackTrace(false)
+public final class SerializationEvent extends Event {
+
+    public static final String ENCODE = "encode";
+    public static final String DECODE = "decode";
+
+    /**
+     * The value is written or read directly by the specialized plan of the schema.
+     */
+    public static final String PLAN = "plan";
+    /**
+     * The generic Avro datum is built from the Ballerina value, or the Ballerina value from the generic datum.
+     */
+    public static final String BUILD = "build";
+    /**
+     * The generic Avro datum is written as bytes.
+     */
+    public static final String WRITE = "write";
+    /**
+     * The bytes are read as a generic Avro datum.
+     */
+    public static final String READ = "read";
+    /**
+     * The bytes are compressed or decompressed with the dictionary of the schema.
+     */
+    public static final String COMPRESSION = "compression";
+
+    private static volatile long latencyThreshold = 20_000_000;
+    private static volatile long sizeThreshold = 1024 * 1024;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Phase")
+    private String phase;
+
+    @Label("Schema")
+    private String schemaName;
+
+    @Label("Payload Size")
+    @DataAmount
+    private long payloadSize;
+
+    @Label("Target Type")
+    private String targetType;
+
+    @Label("Failed")
+    private boolean failed;
+
+    private transient long phaseStart;
+    private transient long phaseDuration = -1;
+    private transient boolean completed;
+
+    public static void setThresholds(long latency, long size) {
+        latencyThreshold = latency;
+        sizeThreshold = size;
+    }
+
+    public static SerializationEvent start() {
+        SerializationEvent event = new SerializationEvent();
+        if (event.isEnabled()) {
+            event.phaseStart = System.nanoTime();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Ends the phase as completed. A phase that is reported without being completed is recorded as failed.
+     */
+    public void complete() {
+        completed = true;
+        stop();
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Ends the phase if it is not ended yet, and records it if it failed or if it reaches the latency or the size
+     * threshold. The phase is reported from a {@code finally} block, so that a phase that throws is recorded too.
+     *
+     * @param operation   either {@link #ENCODE} or {@link #DECODE}
+     * @param phase       the phase of the call
+     * @param schema      the schema of the value
+     * @param payloadSize the size of the encoded value
+     * @param targetType  the expected Ballerina type of a decoded value, or {@code null} when encoding
+     */
+    public void report(String operation, String phase, Schema schema, long payloadSize, Type targetType) {
+        if (!isEnabled()) {
+            return;
+        }
+        stop();
+        boolean failed = !completed;
+        if (!failed && phaseDuration < latencyThreshold && payloadSize < sizeThreshold || !shouldCommit()) {
+            return;
+        }
+        this.operation = operation;
+        this.phase = phase;
+        this.schemaName = schema.getFullName();
+        this.payloadSize = payloadSize;
+        this.targetType = targetType == null ? null : targetType.toString();
+        this.failed = failed;
+        commit();
+    }
+
+    private void stop() {
+        if (isEnabled() && phaseDuration < 0) {
+            end();
+            phaseDuration = System.nanoTime() - phaseStart;
+        }
+    }
+}
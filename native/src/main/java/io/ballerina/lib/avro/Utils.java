@@ -24,8 +24,11 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 
+import java.util.Arrays;
+
 import static io.ballerina.lib.avro.ModuleUtils.getModule;
 
 public final class Utils {
@@ -34,12 +37,31 @@ public final class Utils {
     }
 
     public static final String AVRO_SCHEMA = "avroSchema";
+    public static final String AVRO_MIGRATIONS = "avroMigrations";
+    public static final String AVRO_PLANS = "avroPlans";
+    public static final String AVRO_DICTIONARY = "avroDictionary";
+    public static final String AVRO_DECODE_CACHE = "avroDecodeCache";
+    public static final String AVRO_METRICS = "avroMetrics";
+    public static final String AVRO_INCREMENTAL_ENCODER = "avroIncrementalEncoder";
     public static final String ERROR_TYPE = "Error";
+    public static final String DATUM_STREAM = "DatumStream";
+    public static final String DECODE_STREAM = "DecodeStream";
+    public static final String SCHEMA_ERROR = "Avro schema error";
     public static final String SERIALIZATION_ERROR = "Avro serialization error";
+    public static final String VALIDATION_ERROR = "Avro validation error";
     public static final String DESERIALIZATION_ERROR = "Avro deserialization error";
+    public static final String JSON_TRANSCODING_ERROR = "Avro JSON transcoding error";
+    public static final String MIGRATION_ERROR = "Avro schema migration error";
+    public static final String COMPRESSION_ERROR = "Avro compression error";
+    public static final String PREPARATION_ERROR = "Avro schema preparation error";
+    public static final String PROFILING_ERROR = "Avro profiling error";
+    public static final String DECODE_CACHE_ERROR = "Avro decode cache error";
 
+    // The visitors and the transcoders walk values recursively, and overflow the stack for deeply nested values.
     public static BError createError(String message, Throwable throwable) {
-        BError cause = ErrorCreator.createError(throwable);
+        BError cause = throwable instanceof StackOverflowError
+                ? ErrorCreator.createError(StringUtils.fromString("The data is nested too deeply"))
+                : ErrorCreator.createError(throwable);
         return ErrorCreator.createError(getModule(), ERROR_TYPE, StringUtils.fromString(message), cause, null);
     }
 
@@ -56,4 +78,48 @@ public final class Utils {
         }
         throw new IllegalStateException("Unsupported intersection type found.");
     }
+
+    // Arrays of simple values keep their members unboxed, so getValues is null for them.
+    public static Object[] getArrayValues(BArray array) {
+        Object[] values = array.getValues();
+        if (values != null) {
+            return values;
+        }
+        int tag = TypeUtils.getImpliedType(array.getElementType()).getTag();
+        if (TypeTags.isIntegerTypeTag(tag)) {
+            return Arrays.stream(array.getIntArray()).boxed().toArray();
+        } else if (tag == TypeTags.FLOAT_TAG) {
+            return Arrays.stream(array.getFloatArray()).boxed().toArray();
+        } else if (tag == TypeTags.BOOLEAN_TAG) {
+            boolean[] booleans = array.getBooleanArray();
+            Object[] items = new Object[booleans.length];
+            for (int i = 0; i < booleans.length; i++) {
+                items[i] = booleans[i];
+            }
+            return items;
+        }
+        return array.getStringArray();
+    }
+
+    public static String getSchemaKey(String schemaText) {
+        StringBuilder key = new StringBuilder(schemaText.length());
+        boolean inString = false;
+        for (int i = 0; i < schemaText.length(); i++) {
+            char c = schemaText.charAt(i);
+            if (inString) {
+                key.append(c);
+                if (c == '\\' && i + 1 < schemaText.length()) {
+                    key.append(schemaText.charAt(++i));
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+                key.append(c);
+            } else if (!Character.isWhitespace(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.batch;
+
+import io.ballerina.lib.avro.Avro;
+import io.ballerina.lib.avro.plan.ByteWriter;
+import io.ballerina.lib.avro.plan.SchemaPlans;
+import org.apache.avro.Schema;
+
+import java.util.Arrays;
+
+/**
+ * A buffer that holds many Avro encoded values one after the other, along with the offset of each value.
+ *
+ * @since 1.2.1
+ */
+public final class BatchBuffer {
+
+    private final Schema schema;
+    private final SchemaPlans plans;
+    private final ByteWriter out = new ByteWriter();
+    private long[] offsets = new long[16];
+    private int count;
+
+    public BatchBuffer(Schema schema, SchemaPlans plans) {
+        this.schema = schema;
+        this.plans = plans;
+    }
+
+    public synchronized void add(Object value) throws Exception {
+        int offset = out.size();
+        if (!plans.encode(value, out)) {
+            byte[] encoded = Avro.serialize(schema, value);
+            out.writeFixed(encoded, 0, encoded.length);
+        }
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = offset;
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    public synchronized byte[] getData() {
+        return out.toByteArray();
+    }
+
+    public synchronized long[] getOffsets() {
+        return Arrays.copyOf(offsets, count);
+    }
+
+    public synchronized void reset() {
+        out.reset();
+        count = 0;
+    }
+}
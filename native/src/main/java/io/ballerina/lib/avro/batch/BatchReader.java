@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.batch;
+
+import io.ballerina.lib.avro.Avro;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import static io.ballerina.lib.avro.Utils.DESERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.createError;
+import static io.ballerina.lib.avro.batch.BatchWriter.DATA;
+import static io.ballerina.lib.avro.batch.BatchWriter.OFFSETS;
+
+/**
+ * Native functions of the {@code avro:BatchReader} class.
+ *
+ * @since 1.2.1
+ */
+public final class BatchReader {
+
+    private static final String BATCH_SCHEMA = "batchSchema";
+    private static final String BATCH_DATA = "batchData";
+    private static final String BATCH_OFFSETS = "batchOffsets";
+
+    private BatchReader() {}
+
+    public static void initBatchReader(BObject readerObject, BObject schemaObject, BMap<BString, Object> batch) {
+        readerObject.addNativeData(BATCH_SCHEMA, schemaObject);
+        readerObject.addNativeData(BATCH_DATA, ((BArray) batch.get(DATA)).getBytes());
+        readerObject.addNativeData(BATCH_OFFSETS, ((BArray) batch.get(OFFSETS)).getIntArray());
+    }
+
+    public static long length(BObject readerObject) {
+        return ((long[]) readerObject.getNativeData(BATCH_OFFSETS)).length;
+    }
+
+    public static Object get(BObject readerObject, long index, BTypedesc typeParam) {
+        byte[] data = (byte[]) readerObject.getNativeData(BATCH_DATA);
+        long[] offsets = (long[]) readerObject.getNativeData(BATCH_OFFSETS);
+        try {
+            if (index < 0 || index >= offsets.length) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for batch of length "
+                        + offsets.length);
+            }
+            int start = (int) offsets[(int) index];
+            int end = index + 1 < offsets.length ? (int) offsets[(int) index + 1] : data.length;
+            if (start < 0 || start > end || end > data.length) {
+                throw new IndexOutOfBoundsException("Invalid offset for the value at index " + index);
+            }
+            return Avro.deserialize((BObject) readerObject.getNativeData(BATCH_SCHEMA), data, start, end - start,
+                    typeParam.getDescribingType());
+        } catch (Exception | StackOverflowError e) {
+            return createError(DESERIALIZATION_ERROR, e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.batch;
+
+import io.ballerina.lib.avro.plan.SchemaPlans;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import static io.ballerina.lib.avro.ModuleUtils.getModule;
+import static io.ballerina.lib.avro.Utils.AVRO_PLANS;
+import static io.ballerina.lib.avro.Utils.AVRO_SCHEMA;
+import static io.ballerina.lib.avro.Utils.SERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.createError;
+
+/**
+ * Native functions of the {@code avro:BatchWriter} class.
+ *
+ * @since 1.2.1
+ */
+public final class BatchWriter {
+
+    static final String BATCH_BUFFER = "batchBuffer";
+    static final String BATCH_TYPE = "Batch";
+    static final BString DATA = StringUtils.fromString("data");
+    static final BString OFFSETS = StringUtils.fromString("offsets");
+
+    private BatchWriter() {}
+
+    public static void initBatchWriter(BObject writerObject, BObject schemaObject) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        SchemaPlans plans = (SchemaPlans) schemaObject.getNativeData(AVRO_PLANS);
+        writerObject.addNativeData(BATCH_BUFFER, new BatchBuffer(schema, plans));
+    }
+
+    public static Object add(BObject writerObject, Object data) {
+        try {
+            getBuffer(writerObject).add(data);
+            return null;
+        } catch (Exception | StackOverflowError e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static long size(BObject writerObject) {
+        return getBuffer(writerObject).size();
+    }
+
+    public static BMap<BString, Object> toBatch(BObject writerObject) {
+        BatchBuffer buffer = getBuffer(writerObject);
+        BMap<BString, Object> batch = ValueCreator.createRecordValue(getModule(), BATCH_TYPE);
+        synchronized (buffer) {
+            batch.put(DATA, ValueCreator.createArrayValue(buffer.getData()));
+            batch.put(OFFSETS, ValueCreator.createArrayValue(buffer.getOffsets()));
+        }
+        return batch;
+    }
+
+    public static void reset(BObject writerObject) {
+        getBuffer(writerObject).reset();
+    }
+
+    private static BatchBuffer getBuffer(BObject writerObject) {
+        return (BatchBuffer) writerObject.getNativeData(BATCH_BUFFER);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.channel;
+
+import io.ballerina.lib.avro.Avro;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.apache.avro.Schema;
+
+import java.util.List;
+
+import static io.ballerina.lib.avro.ModuleUtils.getModule;
+import static io.ballerina.lib.avro.Utils.AVRO_DICTIONARY;
+import static io.ballerina.lib.avro.Utils.AVRO_INCREMENTAL_ENCODER;
+import static io.ballerina.lib.avro.Utils.AVRO_SCHEMA;
+import static io.ballerina.lib.avro.Utils.DESERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.SERIALIZATION_ERROR;
+import static io.ballerina.lib.avro.Utils.createError;
+
+/**
+ * Native functions of the streams that read Avro encoded values from a byte channel and of the incremental
+ * serialization of values to a byte channel.
+ *
+ * @since 1.2.1
+ */
+public final class ChannelUtils {
+
+    private static final String STREAM_PART_TYPE = "StreamPart";
+    private static final BString STREAM_PART_ITEMS = StringUtils.fromString("items");
+    private static final BString STREAM_PART_ENCODER = StringUtils.fromString("encoder");
+
+    private ChannelUtils() {}
+
+    public static BHandle newFrameReader(BObject schemaObject, BString framing) {
+        Schema schema = (Schema) schemaObject.getNativeData(AVRO_SCHEMA);
+        return ValueCreator.createHandleValue(new FrameReader(schema, Framing.from(framing)));
+    }
+
+    public static void appendFrameData(BHandle reader, BArray data) {
+        ((FrameReader) reader.getValue()).append(data.getBytes());
+    }
+
+    public static boolean hasRemainingFrameData(BHandle reader) {
+        return ((FrameReader) reader.getValue()).hasRemaining();
+    }
+
+    public static Object nextFrame(BHandle reader) {
+        try {
+            return ((FrameReader) reader.getValue()).nextFrame();
+        } catch (Exception | StackOverflowError e) {
+            return createError(DESERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object decodeFrame(BObject schemaObject, BHandle reader, BTypedesc typeParam) {
+        if (hasDictionary(schemaObject)) {
+            return createDictionaryError(DESERIALIZATION_ERROR);
+        }
+        FrameReader frameReader = (FrameReader) reader.getValue();
+        try {
+            return Avro.deserialize(schemaObject, frameReader.getBuffer(), frameReader.getFrameOffset(),
+                    frameReader.getFrameLength(), typeParam.getDescribingType());
+        } catch (Exception | StackOverflowError e) {
+            return createError(DESERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object splitIncremental(BObject schemaObject, Object data) {
+        if (hasDictionary(schemaObject)) {
+            return createDictionaryError(SERIALIZATION_ERROR);
+        }
+        IncrementalEncoder encoder = (IncrementalEncoder) schemaObject.getNativeData(AVRO_INCREMENTAL_ENCODER);
+        try {
+            List<Object> parts = encoder.split(data);
+            Object[] values = new Object[parts.size()];
+            for (int i = 0; i < values.length; i++) {
+                if (parts.get(i) instanceof IncrementalEncoder.StreamPart part) {
+                    BMap<BString, Object> streamPart = ValueCreator.createRecordValue(getModule(), STREAM_PART_TYPE);
+                    streamPart.put(STREAM_PART_ITEMS, part.stream());
+                    streamPart.put(STREAM_PART_ENCODER, ValueCreator.createHandleValue(part.encoder()));
+                    values[i] = streamPart;
+                } else {
+                    values[i] = ValueCreator.createArrayValue((byte[]) parts.get(i));
+                }
+            }
+            return ValueCreator.createArrayValue(values, TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY));
+        } catch (Exception | StackOverflowError e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    public static Object encodeBlock(BHandle encoder, BArray items) {
+        try {
+            return ValueCreator.createArrayValue(((ItemEncoder) encoder.getValue()).encodeBlock(items));
+        } catch (Exception | StackOverflowError e) {
+            return createError(SERIALIZATION_ERROR, e);
+        }
+    }
+
+    // The values of a channel are not compressed, as a dictionary is only applied to a whole message.
+    public static boolean hasDictionary(BObject schemaObject) {
+        return schemaObject.getNativeData(AVRO_DICTIONARY) != null;
+    }
+
+    public static BError createDictionaryError(String message) {
+        return createError(message, new IllegalStateException(
+                "The values of a channel cannot be used with a schema that has a compression dictionary"));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.channel;
+
+import io.ballerina.lib.avro.plan.ByteReader;
+import io.ballerina.lib.avro.plan.DatumSkipper;
+import org.apache.avro.Schema;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * Collects the bytes read from a channel and splits them into the frames of encoded values.
+ *
+ * @since 1.2.1
+ */
+public final class FrameReader {
+
+    private final Schema schema;
+    private final Framing framing;
+    private byte[] buffer = new byte[0];
+    private int start;
+    private int limit;
+    private int frameStart;
+    private int frameEnd;
+    // The skipper of the RAW frame being read and the number of its bytes it has skipped, so that the frame is not
+    // skipped again from its start when more bytes are appended.
+    private DatumSkipper skipper;
+    private int skipped;
+
+    public FrameReader(Schema schema, Framing framing) {
+        this.schema = schema;
+        this.framing = framing;
+    }
+
+    public void append(byte[] data) {
+        if (limit + data.length > buffer.length) {
+            int remaining = limit - start;
+            byte[] newBuffer = remaining + data.length > buffer.length
+                    ? new byte[Math.max(remaining + data.length, buffer.length * 2)] : buffer;
+            System.arraycopy(buffer, start, newBuffer, 0, remaining);
+            buffer = newBuffer;
+            start = 0;
+            limit = remaining;
+        }
+        System.arraycopy(data, 0, buffer, limit, data.length);
+        limit += data.length;
+    }
+
+    public boolean hasRemaining() {
+        return limit > start;
+    }
+
+    /**
+     * Finds the next complete frame in the collected bytes and consumes it.
+     *
+     * @return whether a complete frame was found
+     * @throws IOException if the collected bytes are malformed
+     */
+    public boolean nextFrame() throws IOException {
+        ByteReader in = new ByteReader(buffer, start, limit - start);
+        try {
+            if (framing == Framing.LENGTH_PREFIXED) {
+                long length = in.readLong();
+                if (length < 0 || length > Integer.MAX_VALUE) {
+                    throw new IOException("Malformed data. Invalid frame length: " + length);
+                }
+                if (in.remaining() < length) {
+                    return false;
+                }
+                frameStart = in.position();
+                frameEnd = frameStart + (int) length;
+            } else {
+                if (skipper == null) {
+                    skipper = new DatumSkipper(schema);
+                    skipped = 0;
+                }
+                in.skip(skipped);
+                if (!skipper.advance(in)) {
+                    skipped = in.position() - start;
+                    return false;
+                }
+                skipper = null;
+                frameStart = start;
+                frameEnd = in.position();
+            }
+        } catch (EOFException e) {
+            return false;
+        }
+        start = frameEnd;
+        return true;
+    }
+
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public int getFrameOffset() {
+        return frameStart;
+    }
+
+    public int getFrameLength() {
+        return frameEnd - frameStart;
+    }
+}
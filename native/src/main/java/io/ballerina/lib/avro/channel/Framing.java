@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.channel;
+
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * The ways Avro encoded values are separated in a byte channel.
+ *
+ * @since 1.2.1
+ */
+public enum Framing {
+
+    LENGTH_PREFIXED,
+    RAW;
+
+    public static Framing from(BString framing) {
+        return valueOf(framing.getValue());
+    }
+}
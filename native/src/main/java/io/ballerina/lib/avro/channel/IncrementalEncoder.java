@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.channel;
+
+import io.ballerina.lib.avro.plan.ByteWriter;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a value whose arrays or maps are given as Ballerina streams into the serialized parts around the streams,
+ * so that the items of the streams are serialized as they are read instead of being held in memory. A stream can be
+ * given for a top-level array or map, or for an array or map field of a top-level record.
+ * <p>
+ * An encoder is created once for each schema, and the encoders of the fields and the items are created on the first
+ * split that needs them and reused by later splits. Two splits racing to create an encoder may both create it, which
+ * is harmless, as the encoders do not change once created.
+ *
+ * @since 1.2.1
+ */
+public final class IncrementalEncoder {
+
+    private final Schema schema;
+    private final BString[] fieldNames;
+    private final ValueEncoder[] fieldEncoders;
+    private final StreamField[] streamFields;
+    private ItemEncoder itemEncoder;
+
+    public IncrementalEncoder(Schema schema) {
+        this.schema = schema;
+        int fieldCount = schema.getType() == Schema.Type.RECORD ? schema.getFields().size() : 0;
+        this.fieldNames = new BString[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fieldNames[i] = StringUtils.fromString(schema.getFields().get(i).name());
+        }
+        this.fieldEncoders = new ValueEncoder[fieldCount];
+        this.streamFields = new StreamField[fieldCount];
+    }
+
+    /**
+     * A stream of the value and the encoder of its items.
+     *
+     * @param stream  the stream of items
+     * @param encoder the encoder of the items
+     */
+    public record StreamPart(BStream stream, ItemEncoder encoder) {
+    }
+
+    /**
+     * Splits the given value into the serialized bytes between its streams and the streams.
+     *
+     * @param data the Ballerina value
+     * @return the {@code byte[]} and {@link StreamPart} parts of the value, in order
+     * @throws Exception if the value does not match with the schema
+     */
+    public List<Object> split(Object data) throws Exception {
+        List<Object> parts = new ArrayList<>();
+        ByteWriter out = new ByteWriter();
+        if (data instanceof BStream stream) {
+            parts.add(new StreamPart(stream, getItemEncoder()));
+        } else if (schema.getType() == Schema.Type.RECORD && data instanceof BMap<?, ?> record) {
+            for (int i = 0; i < fieldNames.length; i++) {
+                Object value = record.get(fieldNames[i]);
+                if (value instanceof BStream stream) {
+                    StreamField streamField = getStreamField(i);
+                    if (streamField.branch() >= 0) {
+                        out.writeInt(streamField.branch());
+                    }
+                    parts.add(out.toByteArray());
+                    out.reset();
+                    parts.add(new StreamPart(stream, streamField.encoder()));
+                } else {
+                    getFieldEncoder(i).encode(value, out);
+                }
+            }
+        } else {
+            throw new IllegalArgumentException("Streams can only be given for the arrays and maps of the schema at "
+                    + "the top level or in the fields of a top-level record");
+        }
+        parts.add(out.toByteArray());
+        return parts;
+    }
+
+    private ItemEncoder getItemEncoder() {
+        ItemEncoder encoder = itemEncoder;
+        if (encoder == null) {
+            encoder = ItemEncoder.of(schema);
+            itemEncoder = encoder;
+        }
+        return encoder;
+    }
+
+    private ValueEncoder getFieldEncoder(int field) {
+        ValueEncoder encoder = fieldEncoders[field];
+        if (encoder == null) {
+            encoder = new ValueEncoder(schema.getFields().get(field).schema());
+            fieldEncoders[field] = encoder;
+        }
+        return encoder;
+    }
+
+    private StreamField getStreamField(int field) {
+        StreamField streamField = streamFields[field];
+        if (streamField == null) {
+            Schema fieldSchema = schema.getFields().get(field).schema();
+            int branch = -1;
+            if (fieldSchema.getType() == Schema.Type.UNION) {
+                branch = getStreamBranch(fieldSchema);
+                fieldSchema = fieldSchema.getTypes().get(branch);
+            }
+            streamField = new StreamField(branch, ItemEncoder.of(fieldSchema));
+            streamFields[field] = streamField;
+        }
+        return streamField;
+    }
+
+    private static int getStreamBranch(Schema union) {
+        List<Schema> branches = union.getTypes();
+        for (int i = 0; i < branches.size(); i++) {
+            Schema.Type type = branches.get(i).getType();
+            if (type == Schema.Type.ARRAY || type == Schema.Type.MAP) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("A stream is given for a union without an array or a map branch");
+    }
+
+    // The branch of the union written before the stream of a field, or -1 if the field is not a union.
+    private record StreamField(int branch, ItemEncoder encoder) {
+    }
+}
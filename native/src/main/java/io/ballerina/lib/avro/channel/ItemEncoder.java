@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.channel;
+
+import io.ballerina.lib.avro.plan.ByteWriter;
+import io.ballerina.runtime.api.values.BArray;
+import org.apache.avro.Schema;
+
+/**
+ * Serializes the items of an array or the entries of a map that are given as a Ballerina stream, one block of items
+ * at a time. The entries of a map are given as {@code [string, anydata]} tuples.
+ *
+ * @since 1.2.1
+ */
+public final class ItemEncoder {
+
+    private final ValueEncoder valueEncoder;
+    private final boolean isMap;
+
+    private ItemEncoder(ValueEncoder valueEncoder, boolean isMap) {
+        this.valueEncoder = valueEncoder;
+        this.isMap = isMap;
+    }
+
+    static ItemEncoder of(Schema schema) {
+        return switch (schema.getType()) {
+            case ARRAY -> new ItemEncoder(new ValueEncoder(schema.getElementType()), false);
+            case MAP -> new ItemEncoder(new ValueEncoder(schema.getValueType()), true);
+            default -> throw new IllegalArgumentException("A stream can only be given for an array or a map, but the "
+                    + "schema is of type " + schema.getType());
+        };
+    }
+
+    /**
+     * Serializes the given items as a block of an array or a map. The end of the array or the map is not written.
+     *
+     * @param items the items of the block
+     * @return the serialized block
+     * @throws Exception if an item does not match with the schema
+     */
+    public byte[] encodeBlock(BArray items) throws Exception {
+        ByteWriter out = new ByteWriter();
+        out.writeItemCount(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Object item = items.get(i);
+            if (isMap) {
+                BArray entry = (BArray) item;
+                out.writeString(entry.get(0).toString());
+                item = entry.get(1);
+            }
+            valueEncoder.encode(item, out);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.channel;
+
+import io.ballerina.lib.avro.Avro;
+import io.ballerina.lib.avro.plan.ByteWriter;
+import io.ballerina.lib.avro.plan.SchemaPlans;
+import org.apache.avro.Schema;
+
+/**
+ * Serializes values of a part of a schema, such as a record field or the items of an array. The values are written
+ * with the schema of the part and follow the rules of record fields, so that a union schema is accepted.
+ *
+ * @since 1.2.1
+ */
+final class ValueEncoder {
+
+    private final Schema schema;
+    private final SchemaPlans plans;
+
+    ValueEncoder(Schema schema) {
+        this.schema = schema;
+        this.plans = SchemaPlans.ofValues(schema);
+    }
+
+    void encode(Object value, ByteWriter out) throws Exception {
+        if (!plans.encodeNow(value, out)) {
+            byte[] encoded = Avro.serializeValue(schema, value);
+            out.writeFixed(encoded, 0, encoded.length);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.compression;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses single encoded values with raw deflate and a preset dictionary. A compressed value starts with a
+ * header holding a marker byte and the two byte id of the dictionary, so that a value compressed with another
+ * dictionary is rejected instead of being inflated into garbage.
+ *
+ * @since 1.2.1
+ */
+public final class DictionaryCodec {
+
+    public static final int MAX_ID = 0xFFFF;
+    // Deflate only refers back 32 KiB, so the rest of a larger dictionary is never used.
+    public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    private static final byte MARKER = (byte) 0xDC;
+    private static final int HEADER_SIZE = 3;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 16;
+
+    private static volatile long maxRatio = 256;
+
+    private final int id;
+    private final byte[] dictionary;
+    // Deflaters and inflaters hold native memory, so they are reused across calls.
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+
+    public DictionaryCodec(int id, byte[] dictionary) {
+        if (id < 0 || id > MAX_ID) {
+            throw new IllegalArgumentException("The dictionary id must be between 0 and " + MAX_ID + ": " + id);
+        }
+        if (dictionary.length == 0) {
+            throw new IllegalArgumentException("The dictionary must not be empty");
+        }
+        this.id = id;
+        this.dictionary = dictionary.length > MAX_DICTIONARY_SIZE
+                ? Arrays.copyOfRange(dictionary, dictionary.length - MAX_DICTIONARY_SIZE, dictionary.length)
+                : dictionary.clone();
+    }
+
+    /**
+     * Sets the maximum size of a decompressed value as a multiple of the size of the compressed value, so that a
+     * small crafted value cannot be inflated into a value that exhausts the memory. A value of {@code 0} or less
+     * removes the limit.
+     *
+     * @param ratio the maximum ratio of the decompressed size to the compressed size
+     */
+    public static void setMaxDecompressionRatio(long ratio) {
+        maxRatio = ratio;
+    }
+
+    public byte[] compress(byte[] data) {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        }
+        try {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(data);
+            deflater.finish();
+            byte[] out = new byte[HEADER_SIZE + data.length + 16];
+            out[0] = MARKER;
+            out[1] = (byte) (id >>> 8);
+            out[2] = (byte) id;
+            int length = HEADER_SIZE;
+            while (!deflater.finished()) {
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            return Arrays.copyOf(out, length);
+        } finally {
+            deflater.reset();
+            deflaters.offer(deflater);
+        }
+    }
+
+    public byte[] decompress(byte[] data) throws DataFormatException {
+        return decompress(data, 0, data.length);
+    }
+
+    public byte[] decompress(byte[] data, int offset, int length) throws DataFormatException {
+        if (length < HEADER_SIZE || data[offset] != MARKER) {
+            throw new DataFormatException("The value is not compressed with a dictionary");
+        }
+        int valueId = (data[offset + 1] & 0xFF) << 8 | data[offset + 2] & 0xFF;
+        if (valueId != id) {
+            throw new DataFormatException("The value is compressed with the dictionary " + valueId
+                    + ", but the schema uses the dictionary " + id);
+        }
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        try {
+            inflater.setDictionary(dictionary);
+            inflater.setInput(data, offset + HEADER_SIZE, length - HEADER_SIZE);
+            long ratio = maxRatio;
+            long maxSize = ratio > 0 && ratio <= MAX_ARRAY_SIZE / length
+                    ? ratio * (length - HEADER_SIZE) : MAX_ARRAY_SIZE;
+            // The buffer can hold one byte more than the maximum size, so that a larger value is detected.
+            byte[] out = new byte[(int) Math.min(Math.max(64, length * 4L), maxSize + 1)];
+            int size = 0;
+            while (!inflater.finished()) {
+                if (size == out.length) {
+                    out = Arrays.copyOf(out, (int) Math.min(out.length * 2L, maxSize + 1));
+                }
+                int inflated = inflater.inflate(out, size, out.length - size);
+                if (inflated == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("The compressed value is truncated");
+                }
+                size += inflated;
+                if (size > maxSize) {
+                    throw new DataFormatException("The decompressed value is larger than " + maxSize
+                            + " bytes, the limit for a compressed value of " + length + " bytes");
+                }
+            }
+            return Arrays.copyOf(out, size);
+        } finally {
+            inflater.reset();
+            inflaters.offer(inflater);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a preset dictionary from a sample of encoded values. The dictionary is made of the byte runs that occur in
+ * most of the samples, such as the field values repeated across messages.
+ * <p>
+ * Each eight byte window of a sample is scored with the number of samples it occurs in. Runs of windows that occur
+ * in at least two samples become candidate segments, and the segments with the highest scores are added to the
+ * dictionary until it is full. Deflate finds the end of the dictionary with the shortest distances, so the best
+ * segments are placed last.
+ *
+ * @since 1.2.1
+ */
+public final class DictionaryTrainer {
+
+    private static final int WINDOW = Long.BYTES;
+    private static final int MIN_OCCURRENCES = 2;
+
+    private DictionaryTrainer() {
+    }
+
+    /**
+     * Builds a dictionary from the given samples.
+     *
+     * @param samples the encoded values
+     * @param maxSize the maximum size of the dictionary in bytes
+     * @return the dictionary, which is empty if no byte run occurs in two samples
+     */
+    public static byte[] train(List<byte[]> samples, int maxSize) {
+        Map<Long, Integer> occurrences = countOccurrences(samples);
+        List<Segment> segments = findSegments(samples, occurrences);
+        segments.sort((a, b) -> Long.compare(b.score, a.score));
+
+        List<Segment> selected = new ArrayList<>();
+        Set<Long> covered = new HashSet<>();
+        int size = 0;
+        for (Segment segment : segments) {
+            if (size + segment.length > maxSize) {
+                continue;
+            }
+            if (!coversNewWindow(segment, covered)) {
+                continue;
+            }
+            selected.add(segment);
+            size += segment.length;
+        }
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream(size);
+        for (int i = selected.size() - 1; i >= 0; i--) {
+            Segment segment = selected.get(i);
+            dictionary.write(segment.data, segment.offset, segment.length);
+        }
+        return dictionary.toByteArray();
+    }
+
+    private static Map<Long, Integer> countOccurrences(List<byte[]> samples) {
+        Map<Long, Integer> occurrences = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (byte[] sample : samples) {
+            seen.clear();
+            for (int i = 0; i + WINDOW <= sample.length; i++) {
+                Long window = window(sample, i);
+                if (seen.add(window)) {
+                    occurrences.merge(window, 1, Integer::sum);
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    private static List<Segment> findSegments(List<byte[]> samples, Map<Long, Integer> occurrences) {
+        Map<Segment, Segment> segments = new HashMap<>();
+        for (byte[] sample : samples) {
+            int start = -1;
+            long score = 0;
+            for (int i = 0; i + WINDOW <= sample.length + 1; i++) {
+                int count = i + WINDOW <= sample.length ? occurrences.get(window(sample, i)) : 0;
+                if (count >= MIN_OCCURRENCES) {
+                    if (start < 0) {
+                        start = i;
+                        score = 0;
+                    }
+                    score += count;
+                } else if (start >= 0) {
+                    Segment segment = new Segment(sample, start, i - start + WINDOW - 1, score);
+                    // A run found in several samples is scored once.
+                    segments.putIfAbsent(segment, segment);
+                    start = -1;
+                }
+            }
+        }
+        return new ArrayList<>(segments.values());
+    }
+
+    // A segment is only added if at least an eighth of it is not in the dictionary yet.
+    private static boolean coversNewWindow(Segment segment, Set<Long> covered) {
+        int end = segment.offset + segment.length - WINDOW;
+        int newWindows = 0;
+        for (int i = segment.offset; i <= end; i++) {
+            if (!covered.contains(window(segment.data, i))) {
+                newWindows++;
+            }
+        }
+        if (newWindows * 8 <= end - segment.offset + 1) {
+            return false;
+        }
+        for (int i = segment.offset; i <= end; i++) {
+            covered.add(window(segment.data, i));
+        }
+        return true;
+    }
+
+    private static long window(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 0; i < WINDOW; i++) {
+            value = value << 8 | data[offset + i] & 0xFF;
+        }
+        return value;
+    }
+
+    private static final class Segment {
+
+        private final byte[] data;
+        private final int offset;
+        private final int length;
+        private final long score;
+        private final int hash;
+
+        Segment(byte[] data, int offset, int length, long score) {
+            this.data = data;
+            this.offset = offset;
+            this.length = length;
+            this.score = score;
+            int h = 1;
+            for (int i = offset; i < offset + length; i++) {
+                h = 31 * h + data[i];
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Segment segment && Arrays.equals(data, offset, offset + length,
+                    segment.data, segment.offset, segment.offset + segment.length);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
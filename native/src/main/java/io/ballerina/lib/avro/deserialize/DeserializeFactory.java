@@ -18,12 +18,17 @@
 
 package io.ballerina.lib.avro.deserialize;
 
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
 import io.ballerina.runtime.api.types.Type;
 import org.apache.avro.Schema;
 
 public class DeserializeFactory {
 
     public static Deserializer generateDeserializer(Schema schema, Type type) {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            return new LogicalTypeDeserializer(type, schema, converter);
+        }
         return switch (schema.getType()) {
             case ARRAY -> new ArrayDeserializer(type, schema);
             case FIXED -> new FixedDeserializer(type, schema);
@@ -23,14 +23,18 @@ import io.ballerina.lib.avro.deserialize.ArrayDeserializer;
 import io.ballerina.lib.avro.deserialize.Deserializer;
 import io.ballerina.lib.avro.deserialize.EnumDeserializer;
 import io.ballerina.lib.avro.deserialize.FixedDeserializer;
+import io.ballerina.lib.avro.deserialize.LogicalTypeDeserializer;
 import io.ballerina.lib.avro.deserialize.MapDeserializer;
 import io.ballerina.lib.avro.deserialize.PrimitiveDeserializer;
 import io.ballerina.lib.avro.deserialize.RecordDeserializer;
 import io.ballerina.lib.avro.deserialize.UnionDeserializer;
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.ReferenceType;
 import io.ballerina.runtime.api.types.Type;
@@ -54,6 +58,7 @@ import java.util.Map;
 import static io.ballerina.lib.avro.Utils.getMutableType;
 import static io.ballerina.lib.avro.deserialize.visitor.RecordUtils.processArrayField;
 import static io.ballerina.lib.avro.deserialize.visitor.RecordUtils.processBytesField;
+import static io.ballerina.lib.avro.deserialize.visitor.RecordUtils.processLogicalTypeField;
 import static io.ballerina.lib.avro.deserialize.visitor.RecordUtils.processMapField;
 import static io.ballerina.lib.avro.deserialize.visitor.RecordUtils.processRecordField;
 import static io.ballerina.lib.avro.deserialize.visitor.RecordUtils.processStringField;
@@ -63,6 +68,10 @@ import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 public class DeserializeVisitor implements IDeserializeVisitor {
 
     public static Deserializer createDeserializer(Schema schema, Type type) {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema.getElementType());
+        if (converter != null) {
+            return new LogicalTypeDeserializer(type, schema, converter);
+        }
         return switch (schema.getElementType().getType()) {
             case UNION ->
                     new UnionDeserializer(type, schema);
@@ -86,6 +95,11 @@ public class DeserializeVisitor implements IDeserializeVisitor {
         BMap<BString, Object> avroRecord = createAvroRecord(type);
         for (Schema.Field field : schema.getFields()) {
             Object fieldData = rec.get(field.name());
+            LogicalTypeConverter converter = LogicalTypeConverter.getConverter(field.schema());
+            if (converter != null) {
+                processLogicalTypeField(avroRecord, field, fieldData, converter);
+                continue;
+            }
             switch (field.schema().getType()) {
                 case MAP ->
                         processMapField(avroRecord, field, fieldData);
@@ -124,8 +138,14 @@ public class DeserializeVisitor implements IDeserializeVisitor {
         Object[] keys = data.keySet().toArray();
         Schema schema = mapDeserializer.getSchema();
         Type type = mapDeserializer.getType();
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema.getValueType());
         for (Object key : keys) {
             Object value = data.get(key);
+            if (converter != null) {
+                avroRecord.put(StringUtils.fromString(key.toString()),
+                               converter.fromAvro(value, getConstrainedType(type)));
+                continue;
+            }
             Schema.Type valueType = schema.getValueType().getType();
             switch (valueType) {
                 case ARRAY ->
@@ -187,6 +207,37 @@ public class DeserializeVisitor implements IDeserializeVisitor {
         }
     }
 
+    public Object visit(LogicalTypeDeserializer logicalTypeDeserializer, Object data) {
+        return logicalTypeDeserializer.getConverter().fromAvro(data, logicalTypeDeserializer.getType());
+    }
+
+    public Object visit(LogicalTypeDeserializer logicalTypeDeserializer, GenericData.Array<Object> data) {
+        Type type = logicalTypeDeserializer.getType();
+        Type arrayType = TypeUtils.getImpliedType(type);
+        Type elementType = arrayType.getTag() == TypeTags.ARRAY_TAG ? ((ArrayType) arrayType).getElementType() : null;
+        LogicalTypeConverter converter = logicalTypeDeserializer.getConverter();
+        Object[] values = new Object[data.size()];
+        int index = 0;
+        for (Object datum : data) {
+            values[index++] = converter.fromAvro(datum, elementType);
+        }
+        if (elementType == null) {
+            BArray array = ValueCreator.createArrayValue(values,
+                                                         TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+            return ValueUtils.convert(array, type);
+        }
+        BArray array = ValueCreator.createArrayValue(values, (ArrayType) getMutableType(type));
+        if (type.isReadOnly()) {
+            array.freezeDirect();
+        }
+        return array;
+    }
+
+    private static Type getConstrainedType(Type type) {
+        Type mapType = TypeUtils.getImpliedType(type);
+        return mapType.getTag() == TypeTags.MAP_TAG ? ((MapType) mapType).getConstrainedType() : null;
+    }
+
     private Object visitPrimitiveArrays(PrimitiveDeserializer primitiveDeserializer, GenericData.Array<Object> data,
                                         Schema schema, Type type) {
         switch (schema.getElementType().getType()) {
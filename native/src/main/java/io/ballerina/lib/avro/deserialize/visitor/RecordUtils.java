@@ -22,7 +22,9 @@ import io.ballerina.lib.avro.deserialize.ArrayDeserializer;
 import io.ballerina.lib.avro.deserialize.MapDeserializer;
 import io.ballerina.lib.avro.deserialize.PrimitiveDeserializer;
 import io.ballerina.lib.avro.deserialize.RecordDeserializer;
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BMap;
@@ -75,6 +77,22 @@ public class RecordUtils {
         avroRecord.put(fromString(field.name()), fieldValue);
     }
 
+    public static void processLogicalTypeField(BMap<BString, Object> avroRecord, Schema.Field field,
+                                               Object fieldData, LogicalTypeConverter converter) {
+        Object fieldValue = converter.fromAvro(fieldData, getFieldType(avroRecord, field));
+        avroRecord.put(fromString(field.name()), fieldValue);
+    }
+
+    public static Type getFieldType(BMap<BString, Object> avroRecord, Schema.Field field) {
+        if (avroRecord.getType() instanceof RecordType recordType) {
+            Field recordField = recordType.getFields().get(field.name());
+            if (recordField != null) {
+                return recordField.getFieldType();
+            }
+        }
+        return null;
+    }
+
     public static void processUnionField(Type type, BMap<BString, Object> avroRecord,
                                    Schema.Field field, Object fieldData) throws Exception {
         visitUnionRecords(type, avroRecord, field, fieldData);
@@ -19,6 +19,7 @@
 package io.ballerina.lib.avro.deserialize.visitor;
 
 import io.ballerina.lib.avro.deserialize.RecordDeserializer;
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
@@ -45,6 +46,15 @@ public class UnionRecordUtils {
                 ballerinaRecord.put(StringUtils.fromString(field.name()), null);
                 break;
             }
+            LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schemaType);
+            if (converter != null) {
+                if (converter.isAvroValue(fieldData)) {
+                    ballerinaRecord.put(StringUtils.fromString(field.name()),
+                            converter.fromAvro(fieldData, RecordUtils.getFieldType(ballerinaRecord, field)));
+                    break;
+                }
+                continue;
+            }
             switch (schemaType.getType()) {
                 case BYTES -> handleBytesField(field, fieldData, ballerinaRecord);
                 case FIXED -> handleFixedField(field, fieldData, ballerinaRecord);
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.logical;
+
+import io.ballerina.lib.avro.Utils;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Converts Ballerina `time:Date` values to and from the Avro `date` logical type.
+ *
+ * @since 1.2.1
+ */
+public final class DateConverter extends LogicalTypeConverter {
+
+    private static final BString YEAR = StringUtils.fromString("year");
+    private static final BString MONTH = StringUtils.fromString("month");
+    private static final BString DAY = StringUtils.fromString("day");
+    private static final MapType DATE_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+
+    DateConverter() {
+    }
+
+    @Override
+    public List<Integer> getBallerinaTags() {
+        return List.of(TypeTags.RECORD_TYPE_TAG, TypeTags.MAP_TAG);
+    }
+
+    @Override
+    public Object toAvro(Object data) {
+        if (data instanceof Long days) {
+            return Math.toIntExact(days);
+        }
+        BMap<?, ?> date = (BMap<?, ?>) data;
+        LocalDate localDate = LocalDate.of(Math.toIntExact((Long) date.get(YEAR)),
+                Math.toIntExact((Long) date.get(MONTH)), Math.toIntExact((Long) date.get(DAY)));
+        return Math.toIntExact(localDate.toEpochDay());
+    }
+
+    @Override
+    public Object fromAvro(Object data, Type targetType) {
+        int days = (Integer) data;
+        if (!isLogicalTarget(targetType)) {
+            return (long) days;
+        }
+        LocalDate localDate = LocalDate.ofEpochDay(days);
+        RecordType recordType = findRecordType(targetType);
+        BMap<BString, Object> date = recordType == null ? ValueCreator.createMapValue(DATE_MAP_TYPE)
+                : ValueCreator.createRecordValue(recordType);
+        date.put(YEAR, (long) localDate.getYear());
+        date.put(MONTH, (long) localDate.getMonthValue());
+        date.put(DAY, (long) localDate.getDayOfMonth());
+        return date;
+    }
+
+    @Override
+    public boolean isAvroValue(Object data) {
+        return data instanceof Integer;
+    }
+
+    @Override
+    boolean isLogicalTag(int tag) {
+        return tag == TypeTags.RECORD_TYPE_TAG || tag == TypeTags.MAP_TAG;
+    }
+
+    private static RecordType findRecordType(Type targetType) {
+        if (targetType == null) {
+            return null;
+        }
+        Type type = TypeUtils.getImpliedType(Utils.getMutableType(TypeUtils.getReferredType(targetType)));
+        if (type.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            return (RecordType) type;
+        }
+        if (type.getTag() == TypeTags.UNION_TAG) {
+            for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                RecordType recordType = findRecordType(memberType);
+                if (recordType != null) {
+                    return recordType;
+                }
+            }
+        }
+        return null;
+    }
+}
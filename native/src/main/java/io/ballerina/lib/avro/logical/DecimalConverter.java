@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.logical;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericFixed;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Converts Ballerina `decimal` values to and from the Avro `decimal` logical type on `bytes` and `fixed` schemas.
+ *
+ * @since 1.2.1
+ */
+public final class DecimalConverter extends LogicalTypeConverter {
+
+    private static final Conversions.DecimalConversion DECIMAL_CONVERSION = new Conversions.DecimalConversion();
+
+    private final Schema schema;
+    private final LogicalType logicalType;
+    private final int scale;
+    private final boolean isFixed;
+
+    DecimalConverter(Schema schema) {
+        this.schema = schema;
+        this.logicalType = schema.getLogicalType();
+        this.scale = ((LogicalTypes.Decimal) logicalType).getScale();
+        this.isFixed = schema.getType() == Schema.Type.FIXED;
+    }
+
+    @Override
+    public List<Integer> getBallerinaTags() {
+        return List.of(TypeTags.DECIMAL_TAG);
+    }
+
+    @Override
+    public Object toAvro(Object data) {
+        if (data instanceof BArray bytes) {
+            return isFixed ? new GenericData.Fixed(schema, bytes.getByteArray())
+                    : ByteBuffer.wrap(bytes.getByteArray());
+        }
+        // Values with fewer fraction digits are padded to the scale of the schema; values that need rounding fail.
+        BigDecimal value = ((BDecimal) data).decimalValue().setScale(scale, RoundingMode.UNNECESSARY);
+        return isFixed ? DECIMAL_CONVERSION.toFixed(value, schema, logicalType)
+                : DECIMAL_CONVERSION.toBytes(value, schema, logicalType);
+    }
+
+    @Override
+    public Object fromAvro(Object data, Type targetType) {
+        if (!isLogicalTarget(targetType)) {
+            return ValueCreator.createArrayValue(isFixed ? ((GenericFixed) data).bytes() : getBytes((ByteBuffer) data));
+        }
+        BigDecimal value = isFixed ? DECIMAL_CONVERSION.fromFixed((GenericFixed) data, schema, logicalType)
+                : DECIMAL_CONVERSION.fromBytes(((ByteBuffer) data).duplicate(), schema, logicalType);
+        return ValueCreator.createDecimalValue(value);
+    }
+
+    @Override
+    public boolean isAvroValue(Object data) {
+        return isFixed ? data instanceof GenericFixed : data instanceof ByteBuffer;
+    }
+
+    @Override
+    boolean isLogicalTag(int tag) {
+        return tag == TypeTags.DECIMAL_TAG;
+    }
+
+    // The buffer can be a part of a larger array, so only its remaining bytes are copied.
+    private static byte[] getBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.logical;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+
+import java.util.List;
+
+/**
+ * Converts values of an Avro logical type between the Avro generic representation and the Ballerina representation.
+ * The converters of the logical types that do not depend on the rest of the schema are shared, and a {@code decimal}
+ * converter, which holds the precision, the scale and the fixed schema, is created for each lookup.
+ *
+ * @since 1.2.1
+ */
+public abstract class LogicalTypeConverter {
+
+    private static final LogicalTypeConverter TIMESTAMP_MILLIS = new TimestampConverter(3);
+    private static final LogicalTypeConverter TIMESTAMP_MICROS = new TimestampConverter(6);
+    private static final LogicalTypeConverter DATE = new DateConverter();
+    private static final LogicalTypeConverter UUID = new UuidConverter();
+
+    LogicalTypeConverter() {
+    }
+
+    /**
+     * Returns the converter of the logical type of the given schema. The underlying Avro type of a logical type is
+     * checked when the schema is parsed, so a converter only receives the values of its underlying type.
+     *
+     * @param schema the Avro schema
+     * @return the converter or {@code null} if the schema has no logical type or an unsupported one. The local
+     * timestamps are not converted, as they are not instants that a {@code time:Utc} value can represent
+     */
+    public static LogicalTypeConverter getConverter(Schema schema) {
+        LogicalType logicalType = schema.getLogicalType();
+        if (logicalType == null) {
+            return null;
+        } else if (logicalType instanceof LogicalTypes.Decimal) {
+            return new DecimalConverter(schema);
+        } else if (logicalType instanceof LogicalTypes.TimestampMillis) {
+            return TIMESTAMP_MILLIS;
+        } else if (logicalType instanceof LogicalTypes.TimestampMicros) {
+            return TIMESTAMP_MICROS;
+        } else if (logicalType instanceof LogicalTypes.Date) {
+            return DATE;
+        } else if (LogicalTypes.uuid().getName().equals(logicalType.getName())) {
+            return UUID;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the tags of the Ballerina types accepted for this logical type in addition to the types accepted for
+     * the underlying Avro type.
+     *
+     * @return the Ballerina type tags
+     */
+    public abstract List<Integer> getBallerinaTags();
+
+    /**
+     * Converts a Ballerina value to the Avro generic representation of the underlying Avro type.
+     *
+     * @param data the Ballerina value
+     * @return the Avro value
+     * @throws Exception if the value cannot be represented by the logical type
+     */
+    public abstract Object toAvro(Object data) throws Exception;
+
+    /**
+     * Converts an Avro generic value of the underlying Avro type to the Ballerina representation of the logical type.
+     *
+     * @param data       the Avro value
+     * @param targetType the expected Ballerina type or {@code null} if the value is untyped
+     * @return the Ballerina value
+     */
+    public abstract Object fromAvro(Object data, Type targetType);
+
+    /**
+     * Checks whether the given Avro generic value belongs to the underlying Avro type.
+     *
+     * @param data the Avro value
+     * @return {@code true} if the value can be converted by this converter
+     */
+    public abstract boolean isAvroValue(Object data);
+
+    abstract boolean isLogicalTag(int tag);
+
+    /**
+     * Checks whether the given target type names the Ballerina representation of the logical type. Untyped targets,
+     * such as `anydata` and `json`, and targets that only allow the underlying Avro representation (e.g., `int` for
+     * timestamps) receive the value unchanged.
+     *
+     * @param targetType the expected Ballerina type or {@code null} if the value is untyped
+     * @return {@code true} if the value needs to be converted
+     */
+    public boolean isLogicalTarget(Type targetType) {
+        if (targetType == null) {
+            return false;
+        }
+        Type type = TypeUtils.getImpliedType(targetType);
+        if (type.getTag() == TypeTags.UNION_TAG) {
+            for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                if (isLogicalTarget(memberType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return isLogicalTag(type.getTag());
+    }
+}
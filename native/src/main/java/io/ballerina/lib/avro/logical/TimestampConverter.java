@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.logical;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Converts Ballerina `time:Utc` values to and from the Avro `timestamp-millis`, `timestamp-micros`,
+ * `local-timestamp-millis` and `local-timestamp-micros` logical types. A `time:Utc` value is a tuple of the seconds
+ * since the epoch and the fraction of the second.
+ *
+ * @since 1.2.1
+ */
+public final class TimestampConverter extends LogicalTypeConverter {
+
+    private static final TupleType UTC_TYPE =
+            TypeCreator.createTupleType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_DECIMAL));
+    // A time:Utc value is a tuple, whose type is an intersection with readonly when the value is readonly. The implied
+    // type of a target is never an intersection, so only tuple targets receive time:Utc values.
+    private static final List<Integer> UTC_TAGS = List.of(TypeTags.TUPLE_TAG, TypeTags.INTERSECTION_TAG);
+
+    private final int fractionDigits;
+    private final long unitsPerSecond;
+
+    TimestampConverter(int fractionDigits) {
+        this.fractionDigits = fractionDigits;
+        this.unitsPerSecond = BigDecimal.ONE.movePointRight(fractionDigits).longValueExact();
+    }
+
+    @Override
+    public List<Integer> getBallerinaTags() {
+        return UTC_TAGS;
+    }
+
+    @Override
+    public Object toAvro(Object data) {
+        if (data instanceof Long) {
+            return data;
+        }
+        BArray utc = (BArray) data;
+        long seconds = (Long) utc.get(0);
+        long fraction = ((BDecimal) utc.get(1)).decimalValue().movePointRight(fractionDigits).longValue();
+        return Math.addExact(Math.multiplyExact(seconds, unitsPerSecond), fraction);
+    }
+
+    @Override
+    public Object fromAvro(Object data, Type targetType) {
+        long value = (Long) data;
+        if (!isLogicalTarget(targetType)) {
+            return value;
+        }
+        BigDecimal fraction = BigDecimal.valueOf(Math.floorMod(value, unitsPerSecond), fractionDigits);
+        BArray utc = ValueCreator.createTupleValue(UTC_TYPE);
+        utc.add(0, Math.floorDiv(value, unitsPerSecond));
+        utc.add(1, ValueCreator.createDecimalValue(fraction.stripTrailingZeros()));
+        utc.freezeDirect();
+        return utc;
+    }
+
+    @Override
+    public boolean isAvroValue(Object data) {
+        return data instanceof Long;
+    }
+
+    @Override
+    boolean isLogicalTag(int tag) {
+        return UTC_TAGS.contains(tag);
+    }
+}
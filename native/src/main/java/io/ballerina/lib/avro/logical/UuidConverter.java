@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.logical;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+
+import java.util.List;
+
+/**
+ * Converts Ballerina `string` values to and from the Avro `uuid` logical type. The value keeps its string form on
+ * the wire, hence the conversion only validates the format of the value.
+ *
+ * @since 1.2.1
+ */
+public final class UuidConverter extends LogicalTypeConverter {
+
+    private static final int UUID_LENGTH = 36;
+
+    UuidConverter() {
+    }
+
+    @Override
+    public List<Integer> getBallerinaTags() {
+        return List.of();
+    }
+
+    @Override
+    public Object toAvro(Object data) throws Exception {
+        String value = data.toString();
+        if (!isUuid(value)) {
+            throw new Exception("The value '" + value + "' is not a valid UUID");
+        }
+        return value;
+    }
+
+    @Override
+    public Object fromAvro(Object data, Type targetType) {
+        return StringUtils.fromString(data.toString());
+    }
+
+    @Override
+    public boolean isAvroValue(Object data) {
+        return data instanceof CharSequence;
+    }
+
+    @Override
+    boolean isLogicalTag(int tag) {
+        return tag == TypeTags.STRING_TAG;
+    }
+
+    private static boolean isUuid(String value) {
+        if (value.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(i);
+            boolean isHyphen = i == 8 || i == 13 || i == 18 || i == 23;
+            if (isHyphen ? c != '-' : Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
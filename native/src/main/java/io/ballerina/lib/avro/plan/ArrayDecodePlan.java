@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BArray;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Reads an array of reference values, such as records, arrays, byte arrays and logical type values.
+ */
+final class ArrayDecodePlan extends DecodePlan {
+
+    private final DecodePlan itemPlan;
+    private final IntFunction<Object[]> storage;
+    private final ArrayType arrayType;
+    private final boolean isReadOnly;
+    private final Type convertedType;
+
+    /**
+     * Creates the plan of an array.
+     *
+     * @param itemPlan      the plan of the items
+     * @param storage       creates the backing array of the Ballerina array
+     * @param arrayType     the type of the Ballerina array
+     * @param isReadOnly    whether the Ballerina array is frozen
+     * @param convertedType the type the Ballerina array is converted to or {@code null}
+     */
+    ArrayDecodePlan(DecodePlan itemPlan, IntFunction<Object[]> storage, ArrayType arrayType, boolean isReadOnly,
+                    Type convertedType) {
+        this.itemPlan = itemPlan;
+        this.storage = storage;
+        this.arrayType = arrayType;
+        this.isReadOnly = isReadOnly;
+        this.convertedType = convertedType;
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        Items items = new Items();
+        for (long count = in.readItemCount(); count > 0; count = in.readItemCount()) {
+            items.reserve(count, in);
+            for (long i = 0; i < count; i++) {
+                items.add(itemPlan.decode(in));
+            }
+        }
+        return createArray(items);
+    }
+
+    @Override
+    DecodeFrame start(ByteReader in) {
+        Items items = new Items();
+        return new DecodeFrame() {
+            private long remaining = 0;
+            private boolean isEnd = false;
+
+            @Override
+            DecodePlan next(ByteReader in) throws Exception {
+                if (remaining == 0 && !isEnd) {
+                    remaining = in.readItemCount();
+                    isEnd = remaining == 0;
+                    items.reserve(remaining, in);
+                }
+                if (isEnd) {
+                    return null;
+                }
+                remaining--;
+                return itemPlan;
+            }
+
+            @Override
+            void accept(Object value) {
+                items.add(value);
+            }
+
+            @Override
+            Object finish() {
+                return createArray(items);
+            }
+        };
+    }
+
+    private Object createArray(Items items) {
+        Object[] values = storage.apply(items.size);
+        System.arraycopy(items.values, 0, values, 0, items.size);
+        BArray array = ValueCreator.createArrayValue(values, arrayType);
+        if (isReadOnly) {
+            array.freezeDirect();
+        }
+        return convertedType == null ? array : ValueUtils.convert(array, convertedType);
+    }
+
+    private static final class Items {
+
+        private Object[] values = new Object[0];
+        private int size = 0;
+
+        void reserve(long count, ByteReader in) {
+            if (values.length - size < count) {
+                // The count is only trusted as far as the remaining bytes allow, which bounds malformed counts.
+                long capacity = Math.max(size + Math.min(count, in.remaining()), size * 2L);
+                values = Arrays.copyOf(values, (int) Math.min(capacity, Integer.MAX_VALUE - 8));
+            }
+        }
+
+        void add(Object value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(8, size * 2));
+            }
+            values[size++] = value;
+        }
+    }
+}
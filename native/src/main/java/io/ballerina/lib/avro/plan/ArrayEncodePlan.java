@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.values.BArray;
+
+import static io.ballerina.lib.avro.Utils.getArrayValues;
+
+/**
+ * Writes the non-nil members of a Ballerina array with an item plan, such as arrays of records, maps, arrays, byte
+ * arrays, enums and logical values.
+ */
+final class ArrayEncodePlan extends EncodePlan {
+
+    private final EncodePlan itemPlan;
+
+    ArrayEncodePlan(EncodePlan itemPlan) {
+        this.itemPlan = itemPlan;
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        Object[] items = getItems(value);
+        out.writeItemCount(countItems(items));
+        for (Object item : items) {
+            if (item != null) {
+                itemPlan.encode(item, out);
+            }
+        }
+        out.writeEnd();
+    }
+
+    @Override
+    void push(Object value, AvroWriter out, EncodeStack stack) throws Exception {
+        Object[] items = getItems(value);
+        out.writeItemCount(countItems(items));
+        stack.push(EncodeStack.END, null);
+        for (int i = items.length - 1; i >= 0; i--) {
+            if (items[i] != null) {
+                stack.push(itemPlan, items[i]);
+            }
+        }
+    }
+
+    private static Object[] getItems(Object value) throws NotHandledException {
+        return getArrayValues(cast(value, BArray.class));
+    }
+
+    private static int countItems(Object[] items) {
+        int count = 0;
+        for (Object item : items) {
+            if (item != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
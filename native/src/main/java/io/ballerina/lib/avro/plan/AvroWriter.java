@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+/**
+ * Writes values in the Avro binary encoding. Encode plans write to this interface, so that the same plan can write
+ * the bytes of a value with {@link ByteWriter} or only count them with {@link SizeCounter}.
+ *
+ * @since 1.2.1
+ */
+public interface AvroWriter {
+
+    /**
+     * Returns the number of bytes written so far.
+     *
+     * @return the number of bytes
+     */
+    int size();
+
+    /**
+     * Discards the bytes written after the given size.
+     *
+     * @param size the number of bytes to keep
+     */
+    void truncate(int size);
+
+    default void writeNull() {
+    }
+
+    void writeBoolean(boolean value);
+
+    void writeInt(int value);
+
+    void writeLong(long value);
+
+    void writeFloat(float value);
+
+    void writeDouble(double value);
+
+    void writeString(String value);
+
+    default void writeBytes(byte[] value) {
+        writeBytes(value, 0, value.length);
+    }
+
+    default void writeBytes(byte[] value, int offset, int length) {
+        writeInt(length);
+        writeFixed(value, offset, length);
+    }
+
+    void writeFixed(byte[] value, int offset, int length);
+
+    default void writeItemCount(long count) {
+        if (count > 0) {
+            writeLong(count);
+        }
+    }
+
+    void writeEnd();
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A cursor that reads values in the Avro binary encoding from a byte array.
+ *
+ * @since 1.2.1
+ */
+public final class ByteReader {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public ByteReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public ByteReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public int remaining() {
+        return limit - position;
+    }
+
+    /**
+     * Moves the reader back to a position it has already passed.
+     *
+     * @param position the position returned by {@link #position()}
+     */
+    public void seek(int position) {
+        this.position = position;
+    }
+
+    public boolean readBoolean() throws IOException {
+        require(1);
+        return buffer[position++] == 1;
+    }
+
+    public int readInt() throws IOException {
+        int n = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            require(1);
+            int b = buffer[position++] & 0xFF;
+            n |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (n >>> 1) ^ -(n & 1);
+            }
+        }
+        throw new IOException("Invalid int encoding");
+    }
+
+    public long readLong() throws IOException {
+        long n = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            require(1);
+            long b = buffer[position++] & 0xFF;
+            n |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (n >>> 1) ^ -(n & 1);
+            }
+        }
+        throw new IOException("Invalid long encoding");
+    }
+
+    public float readFloat() throws IOException {
+        require(4);
+        int bits = (buffer[position] & 0xFF) | (buffer[position + 1] & 0xFF) << 8
+                | (buffer[position + 2] & 0xFF) << 16 | (buffer[position + 3] & 0xFF) << 24;
+        position += 4;
+        return Float.intBitsToFloat(bits);
+    }
+
+    public double readDouble() throws IOException {
+        require(8);
+        long bits = 0;
+        for (int i = 7; i >= 0; i--) {
+            bits = (bits << 8) | (buffer[position + i] & 0xFF);
+        }
+        position += 8;
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() throws IOException {
+        int length = readLength();
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public byte[] readBytes() throws IOException {
+        return readFixed(readLength());
+    }
+
+    public byte[] readFixed(int length) throws IOException {
+        require(length);
+        byte[] value = new byte[length];
+        System.arraycopy(buffer, position, value, 0, length);
+        position += length;
+        return value;
+    }
+
+    public int skipBytes() throws IOException {
+        int length = readLength();
+        skip(length);
+        return length;
+    }
+
+    /**
+     * Returns a copy of the bytes from the given index up to the current position.
+     *
+     * @param start the index of the first byte
+     * @return the bytes read since the given index
+     */
+    public byte[] copyFrom(int start) {
+        return Arrays.copyOfRange(buffer, start, position);
+    }
+
+    public void skip(int length) throws IOException {
+        require(length);
+        position += length;
+    }
+
+    /**
+     * Reads the item count of the next array or map block. The byte size of blocks written with a negative count
+     * is skipped.
+     *
+     * @return the number of items in the block or zero at the end of the array or map
+     * @throws IOException if the count is malformed
+     */
+    public long readItemCount() throws IOException {
+        long count = readLong();
+        if (count < 0) {
+            readLong();
+            count = -count;
+        }
+        return count;
+    }
+
+    private int readLength() throws IOException {
+        int length = readInt();
+        if (length < 0) {
+            throw new IOException("Malformed data. Length is negative: " + length);
+        }
+        return length;
+    }
+
+    private void require(int length) throws IOException {
+        if (limit - position < length) {
+            throw new EOFException();
+        }
+    }
+}
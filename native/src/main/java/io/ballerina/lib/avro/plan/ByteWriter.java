@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable buffer that writes values in the Avro binary encoding.
+ *
+ * @since 1.2.1
+ */
+public final class ByteWriter implements AvroWriter {
+
+    private static final int DEFAULT_CAPACITY = 128;
+
+    private byte[] buffer;
+    private int position;
+
+    public ByteWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ByteWriter(int capacity) {
+        this.buffer = new byte[Math.max(capacity, 16)];
+    }
+
+    @Override
+    public int size() {
+        return position;
+    }
+
+    public void reset() {
+        position = 0;
+    }
+
+    @Override
+    public void truncate(int size) {
+        position = Math.min(position, size);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    @Override
+    public void writeBoolean(boolean value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) (value ? 1 : 0);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        ensureCapacity(5);
+        int n = (value << 1) ^ (value >> 31);
+        while ((n & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((n & 0x7F) | 0x80);
+            n >>>= 7;
+        }
+        buffer[position++] = (byte) n;
+    }
+
+    @Override
+    public void writeLong(long value) {
+        ensureCapacity(10);
+        long n = (value << 1) ^ (value >> 63);
+        while ((n & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((n & 0x7F) | 0x80);
+            n >>>= 7;
+        }
+        buffer[position++] = (byte) n;
+    }
+
+    @Override
+    public void writeFloat(float value) {
+        ensureCapacity(4);
+        int bits = Float.floatToRawIntBits(value);
+        buffer[position++] = (byte) bits;
+        buffer[position++] = (byte) (bits >>> 8);
+        buffer[position++] = (byte) (bits >>> 16);
+        buffer[position++] = (byte) (bits >>> 24);
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        ensureCapacity(8);
+        long bits = Double.doubleToRawLongBits(value);
+        for (int i = 0; i < 8; i++) {
+            buffer[position++] = (byte) (bits >>> (i * 8));
+        }
+    }
+
+    @Override
+    public void writeString(String value) {
+        int length = value.length();
+        ensureCapacity(length + 5);
+        int start = position;
+        writeInt(length);
+        int offset = position;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                // Strings with non-ASCII characters are encoded by the JDK.
+                position = start;
+                writeBytes(value.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            buffer[offset + i] = (byte) c;
+        }
+        position = offset + length;
+    }
+
+    @Override
+    public void writeFixed(byte[] value, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(value, offset, buffer, position, length);
+        position += length;
+    }
+
+    public void writeFixed(ByteWriter value) {
+        writeFixed(value.buffer, 0, value.position);
+    }
+
+    @Override
+    public void writeEnd() {
+        ensureCapacity(1);
+        buffer[position++] = 0;
+    }
+
+    private void ensureCapacity(int length) {
+        if (buffer.length - position < length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+        }
+    }
+}
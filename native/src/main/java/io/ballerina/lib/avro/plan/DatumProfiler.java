@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import org.apache.avro.Schema;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Walks over encoded datums of a schema and adds up the bytes taken by the values at each path of the schema,
+ * without decoding the values.
+ *
+ * <p>The path of a datum is {@code $}. A record field appends {@code .name}, the items of an array append
+ * {@code []}, and the values of a map append <code>{}</code>. A union adds nothing to the path, so the union index
+ * is counted in the value it selects.
+ *
+ * @since 1.2.1
+ */
+public final class DatumProfiler {
+
+    public static final String ROOT_PATH = "$";
+
+    private static final String ITEMS_SUFFIX = "[]";
+    private static final String VALUES_SUFFIX = "{}";
+    private static final int INITIAL_DEPTH = 8;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Entry root = entry(ROOT_PATH);
+
+    // The values being walked. The schema is walked with an explicit stack, so deeply nested datums do not overflow
+    // the call stack.
+    private Schema[] schemas = new Schema[INITIAL_DEPTH];
+    private Entry[] valueEntries = new Entry[INITIAL_DEPTH];
+    private int[] starts = new int[INITIAL_DEPTH];
+    // The next field of a record, or the items left in the current block of an array or a map.
+    private long[] states = new long[INITIAL_DEPTH];
+    private int depth = 0;
+
+    /**
+     * Adds up the bytes of a datum of the given schema.
+     *
+     * @param schema the schema of the datum
+     * @param in     the reader positioned at the start of the datum
+     * @throws java.io.EOFException if the datum is not complete
+     * @throws IOException          if the datum is malformed
+     */
+    public void profile(Schema schema, ByteReader in) throws IOException {
+        depth = 0;
+        push(schema, root, in);
+        while (depth > 0) {
+            step(in);
+        }
+    }
+
+    /**
+     * Returns the totals of each path, in the order in which the paths were first seen.
+     *
+     * @return the totals of each path
+     */
+    public Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    private void step(ByteReader in) throws IOException {
+        int top = depth - 1;
+        Schema schema = schemas[top];
+        Entry entry = valueEntries[top];
+        switch (schema.getType()) {
+            case RECORD -> {
+                List<Schema.Field> fields = schema.getFields();
+                int index = (int) states[top];
+                if (index == fields.size()) {
+                    pop(in);
+                } else {
+                    states[top] = index + 1;
+                    Schema.Field field = fields.get(index);
+                    push(field.schema(), entry.child("." + field.name()), in);
+                }
+            }
+            // A union adds nothing to the path, so the union index is counted in the value it selects.
+            case UNION -> {
+                schemas[top] = DatumSkipper.readBranch(schema, in);
+                states[top] = 0;
+            }
+            case ARRAY, MAP -> {
+                long remaining = states[top];
+                if (remaining == 0) {
+                    // The path of the items is added even if there are none.
+                    entry.child(schema.getType() == Schema.Type.ARRAY ? ITEMS_SUFFIX : VALUES_SUFFIX);
+                    long count = in.readItemCount();
+                    if (count == 0) {
+                        pop(in);
+                    } else {
+                        entry.items += count;
+                        states[top] = count;
+                    }
+                } else if (schema.getType() == Schema.Type.ARRAY) {
+                    states[top] = remaining - 1;
+                    push(schema.getElementType(), entry.child(ITEMS_SUFFIX), in);
+                } else {
+                    in.skipBytes();
+                    states[top] = remaining - 1;
+                    push(schema.getValueType(), entry.child(VALUES_SUFFIX), in);
+                }
+            }
+            case STRING, BYTES -> {
+                entry.length += in.skipBytes();
+                pop(in);
+            }
+            default -> {
+                DatumSkipper.skipValue(schema, in);
+                pop(in);
+            }
+        }
+    }
+
+    private void push(Schema schema, Entry entry, ByteReader in) {
+        if (depth == schemas.length) {
+            schemas = Arrays.copyOf(schemas, depth * 2);
+            valueEntries = Arrays.copyOf(valueEntries, depth * 2);
+            starts = Arrays.copyOf(starts, depth * 2);
+            states = Arrays.copyOf(states, depth * 2);
+        }
+        schemas[depth] = schema;
+        valueEntries[depth] = entry;
+        starts[depth] = in.position();
+        states[depth] = 0;
+        depth++;
+    }
+
+    private void pop(ByteReader in) {
+        depth--;
+        Entry entry = valueEntries[depth];
+        entry.count++;
+        entry.bytes += in.position() - starts[depth];
+        valueEntries[depth] = null;
+    }
+
+    private Entry entry(String path) {
+        return entries.computeIfAbsent(path, Entry::new);
+    }
+
+    /**
+     * The totals of the values at a path of the schema.
+     */
+    public final class Entry {
+
+        private final String path;
+        private final Map<String, Entry> children = new HashMap<>();
+        private long count = 0;
+        private long bytes = 0;
+        private long items = 0;
+        private long length = 0;
+
+        private Entry(String path) {
+            this.path = path;
+        }
+
+        // The child entries are kept by each entry, so that the path of a value is not built for every value.
+        private Entry child(String suffix) {
+            Entry child = children.get(suffix);
+            if (child == null) {
+                child = entry(path + suffix);
+                children.put(suffix, child);
+            }
+            return child;
+        }
+
+        public String path() {
+            return path;
+        }
+
+        /**
+         * Returns the number of values at the path.
+         *
+         * @return the number of values
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the number of bytes taken by the values at the path, including the values nested in them.
+         *
+         * @return the number of bytes
+         */
+        public long bytes() {
+            return bytes;
+        }
+
+        /**
+         * Returns the number of items in the arrays or maps at the path.
+         *
+         * @return the number of items
+         */
+        public long items() {
+            return items;
+        }
+
+        /**
+         * Returns the number of bytes of the strings or bytes at the path, without their length prefixes.
+         *
+         * @return the length of the content
+         */
+        public long length() {
+            return length;
+        }
+    }
+}
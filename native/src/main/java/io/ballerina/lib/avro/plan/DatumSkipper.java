@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import org.apache.avro.Schema;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Skips over an encoded datum of a schema, to find where the datum ends. The schema is walked with an explicit stack,
+ * so deeply nested datums do not overflow the call stack.
+ *
+ * <p>A skipper can stop at the end of the available bytes and continue when more bytes are available, without
+ * skipping the part of the datum it has already skipped again.
+ *
+ * @since 1.2.1
+ */
+public final class DatumSkipper {
+
+    private static final int INITIAL_DEPTH = 8;
+
+    private Schema[] schemas = new Schema[INITIAL_DEPTH];
+    // The next field of a record, or the items left in the current block of an array or a map.
+    private long[] states = new long[INITIAL_DEPTH];
+    private int depth = 0;
+
+    public DatumSkipper(Schema schema) {
+        push(schema);
+    }
+
+    /**
+     * Skips over a datum of the given schema.
+     *
+     * @param schema the schema of the datum
+     * @param in     the reader positioned at the start of the datum
+     * @throws java.io.EOFException if the datum is not complete
+     * @throws IOException          if the datum is malformed
+     */
+    public static void skip(Schema schema, ByteReader in) throws IOException {
+        if (!new DatumSkipper(schema).advance(in)) {
+            throw new EOFException();
+        }
+    }
+
+    /**
+     * Skips over the rest of the datum, as far as the reader has bytes. If the datum is not complete, the reader is
+     * left after the last value that was skipped as a whole, and the skipper continues from there when it is called
+     * again with a reader positioned at the same place of the datum.
+     *
+     * @param in the reader positioned where the skipper stopped
+     * @return whether the end of the datum was reached
+     * @throws IOException if the datum is malformed
+     */
+    public boolean advance(ByteReader in) throws IOException {
+        while (depth > 0) {
+            int position = in.position();
+            try {
+                step(in);
+            } catch (EOFException e) {
+                in.seek(position);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Skips a single value, union index or block count. The stack is only changed once the bytes have been read.
+    private void step(ByteReader in) throws IOException {
+        int top = depth - 1;
+        Schema schema = schemas[top];
+        switch (schema.getType()) {
+            case RECORD -> {
+                List<Schema.Field> fields = schema.getFields();
+                int index = (int) states[top];
+                if (index == fields.size()) {
+                    depth--;
+                } else {
+                    states[top] = index + 1;
+                    push(fields.get(index).schema());
+                }
+            }
+            case UNION -> {
+                schemas[top] = readBranch(schema, in);
+                states[top] = 0;
+            }
+            case ARRAY, MAP -> {
+                long remaining = states[top];
+                if (remaining == 0) {
+                    long count = in.readItemCount();
+                    if (count == 0) {
+                        depth--;
+                    } else {
+                        states[top] = count;
+                    }
+                } else if (schema.getType() == Schema.Type.ARRAY) {
+                    states[top] = remaining - 1;
+                    push(schema.getElementType());
+                } else {
+                    in.skipBytes();
+                    states[top] = remaining - 1;
+                    push(schema.getValueType());
+                }
+            }
+            default -> {
+                skipValue(schema, in);
+                depth--;
+            }
+        }
+    }
+
+    private void push(Schema schema) {
+        if (depth == schemas.length) {
+            schemas = Arrays.copyOf(schemas, depth * 2);
+            states = Arrays.copyOf(states, depth * 2);
+        }
+        schemas[depth] = schema;
+        states[depth] = 0;
+        depth++;
+    }
+
+    static Schema readBranch(Schema union, ByteReader in) throws IOException {
+        int index = in.readInt();
+        if (index < 0 || index >= union.getTypes().size()) {
+            throw new IOException("Malformed data. Union index out of range: " + index);
+        }
+        return union.getTypes().get(index);
+    }
+
+    /**
+     * Skips over a value of a schema that has no nested schemas.
+     *
+     * @param schema the schema of the value
+     * @param in     the reader positioned at the start of the value
+     * @throws IOException if the value is not complete or is malformed
+     */
+    static void skipValue(Schema schema, ByteReader in) throws IOException {
+        switch (schema.getType()) {
+            case STRING, BYTES -> in.skipBytes();
+            case FIXED -> in.skip(schema.getFixedSize());
+            case ENUM, INT -> in.readInt();
+            case LONG -> in.readLong();
+            case FLOAT -> in.skip(Float.BYTES);
+            case DOUBLE -> in.skip(Double.BYTES);
+            case BOOLEAN -> in.readBoolean();
+            case NULL -> {
+            }
+            default -> throw new IOException("Unsupported schema type: " + schema.getType());
+        }
+    }
+}
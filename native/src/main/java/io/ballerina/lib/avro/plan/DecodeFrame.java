@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+/**
+ * The state of a value that is read by {@link DecodeStack}, whose nested values are read one at a time by the
+ * caller of the frame.
+ *
+ * @since 1.2.1
+ */
+abstract class DecodeFrame {
+
+    /**
+     * Returns the plan of the next nested value, after reading what precedes it.
+     *
+     * @param in the reader positioned after the previous nested value
+     * @return the plan of the next nested value or {@code null} if all the nested values are read
+     * @throws Exception if the input is malformed or not handled by the plan
+     */
+    abstract DecodePlan next(ByteReader in) throws Exception;
+
+    /**
+     * Takes the nested value read with the plan returned by the last call to {@link #next}.
+     *
+     * @param value the nested value
+     */
+    abstract void accept(Object value);
+
+    /**
+     * Returns the value after all its nested values are read.
+     *
+     * @return the Ballerina value
+     * @throws Exception if the value cannot be created
+     */
+    abstract Object finish() throws Exception;
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+/**
+ * Reads a value in the Avro binary encoding of a schema into a value of a Ballerina type. A plan is compiled once
+ * for a schema and a type by {@link DecodePlanCompiler} and is safe to share between threads.
+ * <p>
+ * A plan produces the same value as the deserialize visitors. It throws {@link NotHandledException} for any input it
+ * does not handle, so that the caller can fall back to the visitors. Any other exception means that the input is
+ * malformed.
+ *
+ * @since 1.2.1
+ */
+public abstract class DecodePlan {
+
+    public abstract Object decode(ByteReader in) throws Exception;
+
+    /**
+     * Starts to read a value whose nested values are read by the caller, so that the nesting of a value does not
+     * take a stack frame of the thread per level.
+     *
+     * @param in the reader positioned at the start of the value
+     * @return the frame of the value or {@code null} if the plan reads the whole value with {@link #decode}
+     * @throws Exception if the input is malformed or not handled by the plan
+     */
+    DecodeFrame start(ByteReader in) throws Exception {
+        return null;
+    }
+}
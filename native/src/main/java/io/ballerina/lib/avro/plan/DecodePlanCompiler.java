@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.lib.avro.Utils;
+import io.ballerina.lib.avro.deserialize.visitor.DeserializeVisitor;
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the {@link DecodePlan} of a schema and a Ballerina type. The compiler follows the dispatch of
+ * {@code DeserializeFactory} and {@code DeserializeVisitor} once for the schema and the type, so that the plan only
+ * does the work that depends on the input.
+ *
+ * @since 1.2.1
+ */
+public final class DecodePlanCompiler {
+
+    private static final String JAVA_STRING_PROP = "avro.java.string";
+    private static final MapType ANYDATA_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+    private static final MapType JSON_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+    private static final ArrayType ANYDATA_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA);
+    private static final ArrayType JSON_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
+
+    private final Map<RecordKey, RecordDecodePlan> recordPlans = new HashMap<>();
+    private final Map<Schema, UntypedRecordDecodePlan> untypedRecordPlans = new IdentityHashMap<>();
+
+    private DecodePlanCompiler() {
+    }
+
+    /**
+     * Compiles the plan of a schema and a Ballerina type.
+     *
+     * @param schema     the Avro schema
+     * @param targetType the expected Ballerina type
+     * @return the plan or {@code null} if the inputs are only handled by the deserialize visitors
+     */
+    public static DecodePlan compile(Schema schema, Type targetType) {
+        try {
+            Type type = TypeUtils.getReferredType(targetType);
+            if (isUntyped(type)) {
+                return new DecodePlanCompiler().compileUntyped(schema, type.getTag() == TypeTags.JSON_TAG);
+            }
+            return new DecodePlanCompiler().compileMessage(schema, type);
+        } catch (NotHandledException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether values of the target type are decoded without a Ballerina type of the schema, as maps and
+     * arrays of {@code anydata} or {@code json}.
+     *
+     * @param targetType the expected Ballerina type
+     * @return whether the target type is {@code anydata} or {@code json}
+     */
+    public static boolean isUntyped(Type targetType) {
+        int tag = TypeUtils.getReferredType(targetType).getTag();
+        return tag == TypeTags.ANYDATA_TAG || tag == TypeTags.JSON_TAG;
+    }
+
+    // Records and maps are created as maps of the target type and arrays of non-primitive items as arrays of the
+    // target type, so that the decoded value is not converted afterwards.
+    private DecodePlan compileUntyped(Schema schema, boolean isJson) throws NotHandledException {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            return new LogicalDecodePlan(converter, null, schema);
+        }
+        return switch (schema.getType()) {
+            case RECORD -> compileUntypedRecord(schema, isJson);
+            case MAP -> MapDecodePlan.untyped(compileUntyped(schema.getValueType(), isJson),
+                    isJson ? JSON_MAP_TYPE : ANYDATA_MAP_TYPE);
+            case ARRAY -> compileUntypedArray(schema.getElementType(), isJson);
+            case UNION -> {
+                List<Schema> branches = schema.getTypes();
+                DecodePlan[] branchPlans = new DecodePlan[branches.size()];
+                for (int i = 0; i < branches.size(); i++) {
+                    branchPlans[i] = compileUntyped(branches.get(i), isJson);
+                }
+                yield new UnionDecodePlan(branchPlans);
+            }
+            case FIXED, STRING, ENUM, INT, LONG, FLOAT, DOUBLE, BOOLEAN, BYTES, NULL ->
+                    PrimitiveDecodePlan.of(schema, true);
+            default -> throw unsupported(schema);
+        };
+    }
+
+    private DecodePlan compileUntypedArray(Schema itemSchema, boolean isJson) throws NotHandledException {
+        if (LogicalTypeConverter.getConverter(itemSchema) == null) {
+            switch (itemSchema.getType()) {
+                case STRING, ENUM, INT, LONG, FLOAT, DOUBLE, BOOLEAN -> {
+                    return new PrimitiveArrayDecodePlan(itemSchema, null);
+                }
+                default -> {
+                }
+            }
+        }
+        return new ArrayDecodePlan(compileUntyped(itemSchema, isJson), Object[]::new,
+                isJson ? JSON_ARRAY_TYPE : ANYDATA_ARRAY_TYPE, false, null);
+    }
+
+    private DecodePlan compileUntypedRecord(Schema schema, boolean isJson) throws NotHandledException {
+        UntypedRecordDecodePlan plan = untypedRecordPlans.get(schema);
+        if (plan != null) {
+            return plan;
+        }
+        plan = new UntypedRecordDecodePlan(isJson ? JSON_MAP_TYPE : ANYDATA_MAP_TYPE);
+        untypedRecordPlans.put(schema, plan);
+        List<Schema.Field> fields = schema.getFields();
+        BString[] fieldNames = new BString[fields.size()];
+        DecodePlan[] fieldPlans = new DecodePlan[fields.size()];
+        for (Schema.Field field : fields) {
+            fieldNames[field.pos()] = StringUtils.fromString(field.name());
+            fieldPlans[field.pos()] = compileUntyped(field.schema(), isJson);
+        }
+        plan.init(fieldNames, fieldPlans);
+        return plan;
+    }
+
+    // Follows DeserializeFactory.generateDeserializer
+    private DecodePlan compileMessage(Schema schema, Type type) throws NotHandledException {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            return new LogicalDecodePlan(converter, type, schema);
+        }
+        return switch (schema.getType()) {
+            case ARRAY -> compileArray(schema, type);
+            case MAP -> compileMap(schema, type);
+            case RECORD -> compileRecord(schema, type);
+            case FIXED, STRING, ENUM, INT, LONG, FLOAT, DOUBLE, BOOLEAN, BYTES, NULL ->
+                    PrimitiveDecodePlan.of(schema, false);
+            default -> throw unsupported(schema);
+        };
+    }
+
+    // Follows DeserializeVisitor.createDeserializer and the array visits of DeserializeArrayVisitor
+    private DecodePlan compileArray(Schema schema, Type type) throws NotHandledException {
+        Schema itemSchema = schema.getElementType();
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(itemSchema);
+        if (converter != null) {
+            Type arrayType = TypeUtils.getImpliedType(type);
+            if (arrayType.getTag() != TypeTags.ARRAY_TAG) {
+                return new ArrayDecodePlan(new LogicalDecodePlan(converter, null, itemSchema), Object[]::new,
+                        TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA), false, type);
+            }
+            Type itemType = ((ArrayType) arrayType).getElementType();
+            return new ArrayDecodePlan(new LogicalDecodePlan(converter, itemType, itemSchema), Object[]::new,
+                    toArrayType(getMutableType(type)), type.isReadOnly(), null);
+        }
+        return switch (itemSchema.getType()) {
+            case ARRAY -> {
+                ArrayType arrayType = toArrayType(getMutableType(type));
+                Type itemType = arrayType.getElementType();
+                Type nestedType = itemType.getTag() == TypeTags.ARRAY_TAG ? itemType : type;
+                yield new ArrayDecodePlan(compileArray(itemSchema, TypeUtils.getReferredType(nestedType)),
+                        Object[]::new, arrayType, type.getTag() == TypeTags.INTERSECTION_TAG, null);
+            }
+            case RECORD -> {
+                ArrayType arrayType = toArrayType(getMutableType(type));
+                Type itemType = TypeUtils.getReferredType(arrayType.getElementType());
+                yield new ArrayDecodePlan(compileRecord(itemSchema, itemType), Object[]::new, arrayType,
+                        type.getTag() == TypeTags.INTERSECTION_TAG, null);
+            }
+            case ENUM -> new ArrayDecodePlan(PrimitiveDecodePlan.of(itemSchema, false), Object[]::new,
+                    toArrayType(type), false, null);
+            case FIXED -> new ArrayDecodePlan(PrimitiveDecodePlan.of(itemSchema, false), BArray[]::new,
+                    toArrayType(type), false, null);
+            case BYTES -> new ArrayDecodePlan(PrimitiveDecodePlan.of(itemSchema, false), BArray[]::new,
+                    toArrayType(type), false, type);
+            case STRING, INT, LONG, FLOAT, DOUBLE, BOOLEAN -> new PrimitiveArrayDecodePlan(itemSchema, type);
+            default -> throw unsupported(itemSchema);
+        };
+    }
+
+    // Follows DeserializeVisitor.visit(MapDeserializer, Map)
+    private DecodePlan compileMap(Schema schema, Type type) throws NotHandledException {
+        Schema valueSchema = schema.getValueType();
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(valueSchema);
+        if (converter != null) {
+            Type mapType = TypeUtils.getImpliedType(type);
+            Type valueType = mapType.getTag() == TypeTags.MAP_TAG ? ((MapType) mapType).getConstrainedType() : null;
+            return new MapDecodePlan(new LogicalDecodePlan(converter, valueType, valueSchema), type);
+        }
+        DecodePlan valuePlan = switch (valueSchema.getType()) {
+            case ARRAY, RECORD, MAP -> {
+                // The value type is only resolved for non-empty maps, hence an unresolved type fails on the values.
+                Type valueType = getConstrainedType(type);
+                if (valueType == null) {
+                    yield new FailingDecodePlan("Type is not a map type: " + type);
+                }
+                valueType = TypeUtils.getReferredType(valueType);
+                yield switch (valueSchema.getType()) {
+                    case ARRAY -> compileArray(valueSchema, valueType);
+                    case RECORD -> compileRecord(valueSchema, valueType);
+                    default -> compileMap(valueSchema, valueType);
+                };
+            }
+            case UNION -> new FailingDecodePlan("Unsupported schema type: " + valueSchema.getType());
+            default -> PrimitiveDecodePlan.of(valueSchema, false);
+        };
+        return new MapDecodePlan(valuePlan, type);
+    }
+
+    // Follows DeserializeVisitor.visit(RecordDeserializer, GenericRecord)
+    private DecodePlan compileRecord(Schema schema, Type type) throws NotHandledException {
+        if (type.getTag() == TypeTags.ANYDATA_TAG
+                || !(getMutableType(type) instanceof RecordType recordType)) {
+            throw unsupported(schema);
+        }
+        RecordKey key = new RecordKey(schema, type);
+        RecordDecodePlan plan = recordPlans.get(key);
+        if (plan != null) {
+            return plan;
+        }
+        plan = new RecordDecodePlan();
+        recordPlans.put(key, plan);
+        List<Schema.Field> fields = schema.getFields();
+        BString[] fieldNames = new BString[fields.size()];
+        DecodePlan[] fieldPlans = new DecodePlan[fields.size()];
+        for (Schema.Field field : fields) {
+            fieldNames[field.pos()] = StringUtils.fromString(field.name());
+            fieldPlans[field.pos()] = compileField(field, type, recordType);
+        }
+        plan.init(recordType, type.isReadOnly(), fieldNames, fieldPlans);
+        return plan;
+    }
+
+    private DecodePlan compileField(Schema.Field field, Type type, RecordType recordType) throws NotHandledException {
+        Schema schema = field.schema();
+        if (RawValue.isRaw(getFieldType(recordType, field.name()))) {
+            return new RawDecodePlan(schema);
+        }
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            return new LogicalDecodePlan(converter, getFieldType(recordType, field.name()), schema);
+        }
+        return switch (schema.getType()) {
+            case MAP -> compileMap(schema, TypeUtils.getReferredType(extractMapType(recordType)));
+            case ARRAY -> {
+                Type fieldType = getFieldType(recordType, field.name());
+                if (fieldType == null) {
+                    throw unsupported(schema);
+                }
+                yield compileArray(schema, TypeUtils.getReferredType(fieldType));
+            }
+            case RECORD -> compileRecord(schema, TypeUtils.getReferredType(extractRecordType(recordType)));
+            case UNION -> compileUnionField(field, type, recordType);
+            case STRING, BYTES, INT, LONG, FLOAT, DOUBLE, BOOLEAN, NULL -> PrimitiveDecodePlan.of(schema, true);
+            default -> throw unsupported(schema);
+        };
+    }
+
+    // Follows UnionRecordUtils.visitUnionRecords, which converts the value of a branch with the first branch that
+    // accepts the Avro value. The accepting branch of each branch is resolved here.
+    private DecodePlan compileUnionField(Schema.Field field, Type type, RecordType recordType)
+            throws NotHandledException {
+        List<Schema> branches = field.schema().getTypes();
+        DecodePlan[] branchPlans = new DecodePlan[branches.size()];
+        for (int i = 0; i < branches.size(); i++) {
+            Schema branch = branches.get(i);
+            if (branch.getType() == Schema.Type.NULL) {
+                branchPlans[i] = PrimitiveDecodePlan.of(branch, false);
+                continue;
+            }
+            branchPlans[i] = new FailingDecodePlan("Value does not match with the Avro union types");
+            for (Schema handler : branches) {
+                if (accepts(handler, branch.getType())) {
+                    branchPlans[i] = compileUnionBranch(handler, branch, type, recordType, field.name());
+                    break;
+                }
+            }
+        }
+        return new UnionDecodePlan(branchPlans);
+    }
+
+    private static boolean accepts(Schema handler, Schema.Type valueType) {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(handler);
+        if (converter != null) {
+            return handler.getType() == valueType;
+        }
+        return switch (handler.getType()) {
+            case BYTES, FIXED, ARRAY, MAP, RECORD, STRING, ENUM -> handler.getType() == valueType;
+            case INT, LONG -> valueType == Schema.Type.INT || valueType == Schema.Type.LONG;
+            case FLOAT, DOUBLE -> true;
+            default -> valueType == Schema.Type.BOOLEAN;
+        };
+    }
+
+    private DecodePlan compileUnionBranch(Schema handler, Schema branch, Type type, RecordType recordType,
+                                          String fieldName) throws NotHandledException {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(handler);
+        if (converter != null) {
+            return new LogicalDecodePlan(converter, getFieldType(recordType, fieldName), branch);
+        }
+        if (branch.getType() == Schema.Type.STRING && branch.getProp(JAVA_STRING_PROP) != null) {
+            return new FailingDecodePlan("Unsupported string type: " + branch.getProp(JAVA_STRING_PROP));
+        }
+        return switch (handler.getType()) {
+            case ARRAY -> {
+                Schema.Type itemType = handler.getElementType().getType();
+                if (itemType != Schema.Type.STRING && itemType != Schema.Type.ENUM) {
+                    yield new FailingDecodePlan("Unsupported array type: " + itemType);
+                }
+                yield new PrimitiveArrayDecodePlan(branch.getElementType(), null);
+            }
+            case RECORD -> handler == branch ? compileRecord(handler, TypeUtils.getReferredType(type))
+                    : new FailingDecodePlan("Unsupported record branch: " + branch.getFullName());
+            case FLOAT, DOUBLE -> switch (branch.getType()) {
+                case FLOAT, DOUBLE -> PrimitiveDecodePlan.of(branch, false);
+                case INT, LONG, STRING, ENUM -> new DoubleDecodePlan(branch);
+                default -> new FailingDecodePlan("Value is not a float: " + branch.getType());
+            };
+            case MAP -> new FailingDecodePlan("Unsupported schema type: " + handler.getType());
+            default -> PrimitiveDecodePlan.of(branch, true);
+        };
+    }
+
+    private static Type extractMapType(RecordType recordType) throws NotHandledException {
+        try {
+            return DeserializeVisitor.extractMapType(recordType);
+        } catch (Exception e) {
+            throw new NotHandledException(e.getMessage());
+        }
+    }
+
+    private static Type extractRecordType(RecordType recordType) throws NotHandledException {
+        try {
+            return DeserializeVisitor.extractRecordType(recordType);
+        } catch (IllegalStateException e) {
+            throw new NotHandledException(e.getMessage());
+        }
+    }
+
+    private static Type getMutableType(Type type) throws NotHandledException {
+        try {
+            return Utils.getMutableType(type);
+        } catch (IllegalStateException e) {
+            throw new NotHandledException(e.getMessage());
+        }
+    }
+
+    private static Type getFieldType(RecordType recordType, String fieldName) {
+        Field field = recordType.getFields().get(fieldName);
+        return field == null ? null : field.getFieldType();
+    }
+
+    private static Type getConstrainedType(Type type) {
+        try {
+            return Utils.getMutableType(type) instanceof MapType mapType ? mapType.getConstrainedType() : null;
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private static ArrayType toArrayType(Type type) throws NotHandledException {
+        if (type instanceof ArrayType arrayType) {
+            return arrayType;
+        }
+        throw new NotHandledException("Type is not an array type: " + type);
+    }
+
+    private static NotHandledException unsupported(Schema schema) {
+        return new NotHandledException("Unsupported schema type: " + schema.getType());
+    }
+
+    private record RecordKey(Schema schema, Type type) {
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import java.util.ArrayDeque;
+
+/**
+ * Reads a value with a decode plan by keeping the frames of the values that are being read on a stack of its own
+ * instead of the stack of the thread. Used for recursive schemas, whose values can be nested deeper than the stack
+ * of the thread allows.
+ *
+ * @since 1.2.1
+ */
+final class DecodeStack {
+
+    private DecodeStack() {
+    }
+
+    static Object decode(DecodePlan plan, ByteReader in) throws Exception {
+        ArrayDeque<DecodeFrame> frames = new ArrayDeque<>();
+        DecodePlan nextPlan = plan;
+        while (true) {
+            Object value;
+            DecodeFrame frame = nextPlan.start(in);
+            if (frame == null) {
+                value = nextPlan.decode(in);
+            } else {
+                nextPlan = frame.next(in);
+                if (nextPlan != null) {
+                    frames.push(frame);
+                    continue;
+                }
+                value = frame.finish();
+            }
+            // Hands the value to the enclosing values until one of them has another nested value to read.
+            while (true) {
+                DecodeFrame parent = frames.peek();
+                if (parent == null) {
+                    return value;
+                }
+                parent.accept(value);
+                nextPlan = parent.next(in);
+                if (nextPlan != null) {
+                    break;
+                }
+                frames.pop();
+                value = parent.finish();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+/**
+ * Reads an `int`, `long`, `string` or enum value as a Ballerina `float` by parsing its string form. Used for the
+ * union fields where a `float` or `double` branch precedes the branch of the value.
+ */
+final class DoubleDecodePlan extends DecodePlan {
+
+    private final Schema.Type type;
+    private final BString[] symbols;
+
+    DoubleDecodePlan(Schema schema) {
+        this.type = schema.getType();
+        this.symbols = type == Schema.Type.ENUM ? PrimitiveDecodePlan.toSymbols(schema) : null;
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        String value = switch (type) {
+            case INT -> Integer.toString(in.readInt());
+            case LONG -> Long.toString(in.readLong());
+            case STRING -> in.readString();
+            case ENUM -> PrimitiveDecodePlan.readSymbol(in, symbols).getValue();
+            default -> throw new NotHandledException("Unsupported schema type: " + type);
+        };
+        return Double.parseDouble(value);
+    }
+}
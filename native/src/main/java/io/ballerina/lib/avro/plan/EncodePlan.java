@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+
+/**
+ * Writes a Ballerina value in the Avro binary encoding of a schema. A plan is compiled once for a schema by
+ * {@link EncodePlanCompiler} and is safe to share between threads.
+ * <p>
+ * A plan only handles the values for which its output is known to match the output of the serialize visitors. It
+ * throws {@link NotHandledException} for any other value, including a value of a type it does not expect, so that the
+ * caller can fall back to the visitors. Any other exception means that the value is invalid.
+ *
+ * @since 1.2.1
+ */
+public abstract class EncodePlan {
+
+    public abstract void encode(Object value, AvroWriter out) throws Exception;
+
+    /**
+     * Writes the part of a value that precedes its nested values and pushes the nested values onto the stack, so
+     * that the nesting of a value does not take a stack frame of the thread per level. A plan without nested values
+     * writes the whole value.
+     *
+     * @param value the Ballerina value
+     * @param out   the writer
+     * @param stack the stack of the values that are written next
+     * @throws Exception if the value is invalid or not handled by the plan
+     */
+    void push(Object value, AvroWriter out, EncodeStack stack) throws Exception {
+        encode(value, out);
+    }
+
+    // A value of a class that the plan does not expect is left to the visitors.
+    static <T> T cast(Object value, Class<T> type) throws NotHandledException {
+        if (!type.isInstance(value)) {
+            throw new NotHandledException("Unexpected value of " + (value == null ? "nil" : value.getClass()));
+        }
+        return type.cast(value);
+    }
+
+    // Only the members of a byte array are stored as bytes.
+    static byte[] getBytes(Object value) throws NotHandledException {
+        BArray array = cast(value, BArray.class);
+        if (TypeUtils.getImpliedType(array.getElementType()).getTag() != TypeTags.BYTE_TAG) {
+            throw new NotHandledException("Unexpected array of " + array.getElementType());
+        }
+        return array.getByteArray();
+    }
+}
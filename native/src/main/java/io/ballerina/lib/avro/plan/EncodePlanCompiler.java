@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
+import io.ballerina.lib.avro.serialize.visitor.SerializeVisitor;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the {@link EncodePlan} of a schema. The compiler follows the dispatch of {@code MessageFactory} and
+ * {@code SerializeVisitor} once for the schema, so that the plan only does the work that depends on the value.
+ *
+ * @since 1.2.1
+ */
+public final class EncodePlanCompiler {
+
+    private final Map<Schema, RecordEncodePlan> recordPlans = new IdentityHashMap<>();
+    private final SerializeVisitor serializeVisitor = new SerializeVisitor();
+
+    private EncodePlanCompiler() {
+    }
+
+    /**
+     * Compiles the plan of a schema.
+     *
+     * @param schema the Avro schema
+     * @return the plan or {@code null} if values of the schema are only handled by the serialize visitors
+     */
+    public static EncodePlan compile(Schema schema) {
+        try {
+            return new EncodePlanCompiler().compileMessage(schema);
+        } catch (NotHandledException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Compiles the plan of values of a part of a schema, such as a record field or the items of an array, which
+     * follow the rules of record fields.
+     *
+     * @param schema the Avro schema of the values
+     * @return the plan or {@code null} if the values are only handled by the serialize visitors
+     */
+    public static EncodePlan compileValue(Schema schema) {
+        try {
+            return new EncodePlanCompiler().compileField(schema);
+        } catch (NotHandledException e) {
+            return null;
+        }
+    }
+
+    // Follows MessageFactory.createMessage
+    private EncodePlan compileMessage(Schema schema) throws NotHandledException {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            return new LogicalEncodePlan(converter, schema);
+        }
+        return switch (schema.getType()) {
+            case ARRAY -> compileArray(schema);
+            case FIXED -> new FixedEncodePlan(schema.getFixedSize());
+            case ENUM -> new EnumEncodePlan(schema);
+            case MAP -> new MapEncodePlan(compileMapValue(schema.getValueType()));
+            case RECORD -> compileRecord(schema);
+            case INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING, BYTES, NULL -> new PrimitiveEncodePlan(schema.getType());
+            default -> throw unsupported(schema);
+        };
+    }
+
+    // Follows SerializeVisitor.serializeField
+    private EncodePlan compileField(Schema schema) throws NotHandledException {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            return new LogicalEncodePlan(converter, schema);
+        }
+        return switch (schema.getType()) {
+            case RECORD -> compileRecord(schema);
+            case MAP -> new MapEncodePlan(compileMapValue(schema.getValueType()));
+            case ARRAY -> compileArray(schema);
+            case ENUM -> new EnumEncodePlan(schema);
+            case UNION -> compileUnion(schema);
+            case INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING, BYTES, NULL -> new PrimitiveEncodePlan(schema.getType());
+            default -> throw unsupported(schema);
+        };
+    }
+
+    // Follows SerializeVisitor.createSerializer
+    private EncodePlan compileMapValue(Schema schema) throws NotHandledException {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            return new LogicalEncodePlan(converter, schema);
+        }
+        return switch (schema.getType()) {
+            case INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING, BYTES -> new PrimitiveEncodePlan(schema.getType());
+            case RECORD -> compileRecord(schema);
+            case MAP -> new MapEncodePlan(compileMapValue(schema.getValueType()));
+            case ARRAY -> compileArray(schema);
+            case ENUM -> new EnumEncodePlan(schema);
+            case FIXED -> new FixedEncodePlan(schema.getFixedSize());
+            // Empty maps are still written, so only the values are rejected.
+            default -> new FailingEncodePlan("Unsupported schema type: " + schema.getType());
+        };
+    }
+
+    // Follows ArrayVisitorFactory.createVisitor and the array visitors
+    private EncodePlan compileArray(Schema schema) throws NotHandledException {
+        Schema itemSchema = schema.getElementType();
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(itemSchema);
+        if (converter != null) {
+            return new ArrayEncodePlan(new LogicalEncodePlan(converter, itemSchema));
+        }
+        return switch (itemSchema.getType()) {
+            case ARRAY -> new ArrayEncodePlan(compileArray(itemSchema));
+            case ENUM -> new ArrayEncodePlan(new EnumEncodePlan(itemSchema));
+            case FIXED -> new ArrayEncodePlan(new FixedEncodePlan(itemSchema.getFixedSize()));
+            case RECORD -> new ArrayEncodePlan(compileRecord(itemSchema));
+            case MAP -> new ArrayEncodePlan(new MapEncodePlan(compileMapValue(itemSchema.getValueType())));
+            case BYTES -> new ArrayEncodePlan(new PrimitiveEncodePlan(Schema.Type.BYTES));
+            case STRING, INT, LONG, FLOAT, DOUBLE, BOOLEAN -> new PrimitiveArrayEncodePlan(itemSchema.getType());
+            default -> throw unsupported(itemSchema);
+        };
+    }
+
+    private EncodePlan compileRecord(Schema schema) throws NotHandledException {
+        RecordEncodePlan plan = recordPlans.get(schema);
+        if (plan != null) {
+            return plan;
+        }
+        plan = new RecordEncodePlan();
+        recordPlans.put(schema, plan);
+        List<Schema.Field> fields = schema.getFields();
+        BString[] fieldNames = new BString[fields.size()];
+        Schema[] fieldSchemas = new Schema[fields.size()];
+        EncodePlan[] fieldPlans = new EncodePlan[fields.size()];
+        for (Schema.Field field : fields) {
+            fieldNames[field.pos()] = StringUtils.fromString(field.name());
+            fieldSchemas[field.pos()] = field.schema();
+            fieldPlans[field.pos()] = compileField(field.schema());
+        }
+        plan.init(fieldNames, fieldSchemas, fieldPlans);
+        return plan;
+    }
+
+    // Follows SerializeVisitor.visit(UnionSerializer, Object), which uses the first branch that accepts the type tag
+    private EncodePlan compileUnion(Schema schema) throws NotHandledException {
+        List<Schema> branches = schema.getTypes();
+        EncodePlan[] branchPlans = new EncodePlan[branches.size()];
+        int[] branchByTag = new int[0];
+        for (int i = branches.size() - 1; i >= 0; i--) {
+            Schema branch = branches.get(i);
+            branchPlans[i] = compileMessage(branch);
+            for (int tag : serializeVisitor.deriveBallerinaTag(branch)) {
+                if (tag >= branchByTag.length) {
+                    int length = branchByTag.length;
+                    branchByTag = Arrays.copyOf(branchByTag, tag + 1);
+                    Arrays.fill(branchByTag, length, tag + 1, -1);
+                }
+                branchByTag[tag] = i;
+            }
+        }
+        return new UnionEncodePlan(branchByTag, branchPlans);
+    }
+
+    private static NotHandledException unsupported(Schema schema) {
+        return new NotHandledException("Unsupported schema type: " + schema.getType());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import java.util.Arrays;
+
+/**
+ * Writes a value with an encode plan by keeping the nested values that are still to be written on a stack of its
+ * own instead of the stack of the thread. Used for recursive schemas, whose values can be nested deeper than the
+ * stack of the thread allows.
+ *
+ * @since 1.2.1
+ */
+final class EncodeStack {
+
+    /**
+     * Writes the end of an array or a map after its items.
+     */
+    static final EncodePlan END = new EncodePlan() {
+        @Override
+        public void encode(Object value, AvroWriter out) {
+            out.writeEnd();
+        }
+    };
+
+    /**
+     * Writes the key of a map entry before its value.
+     */
+    static final EncodePlan KEY = new EncodePlan() {
+        @Override
+        public void encode(Object value, AvroWriter out) {
+            out.writeString(value.toString());
+        }
+    };
+
+    private EncodePlan[] plans = new EncodePlan[16];
+    private Object[] values = new Object[16];
+    private int size = 0;
+
+    private EncodeStack() {
+    }
+
+    static void encode(EncodePlan plan, Object value, AvroWriter out) throws Exception {
+        EncodeStack stack = new EncodeStack();
+        stack.push(plan, value);
+        while (stack.size > 0) {
+            int top = --stack.size;
+            EncodePlan nextPlan = stack.plans[top];
+            Object nextValue = stack.values[top];
+            stack.plans[top] = null;
+            stack.values[top] = null;
+            nextPlan.push(nextValue, out, stack);
+        }
+    }
+
+    /**
+     * Pushes a value to be written before the values pushed earlier. The nested values of a value are therefore
+     * pushed in reverse order.
+     *
+     * @param plan  the plan of the value
+     * @param value the Ballerina value
+     */
+    void push(EncodePlan plan, Object value) {
+        if (size == plans.length) {
+            plans = Arrays.copyOf(plans, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        plans[size] = plan;
+        values[size] = value;
+        size++;
+    }
+}
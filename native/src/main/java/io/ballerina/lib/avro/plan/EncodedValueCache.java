@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Remembers the encoded bytes of readonly values by identity, so that a value that is encoded again is copied
+ * instead of being encoded. The cache has a fixed number of slots selected by the identity hash code of the value,
+ * and a value only replaces the value in its slot. The values are weakly referenced, and the bytes of a value are
+ * dropped once the value is collected.
+ * <p>
+ * A slot only records the identity hash code of the last value looked up in it, and an entry is created when the
+ * same value is looked up again, so values that are encoded once neither allocate an entry nor evict another value.
+ *
+ * @since 1.2.1
+ */
+final class EncodedValueCache {
+
+    private static final int SLOTS = 64;
+
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(SLOTS);
+    private final AtomicIntegerArray sightings = new AtomicIntegerArray(SLOTS);
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Looks up the entry of a value.
+     *
+     * @param value the readonly value
+     * @return the entry of the value or {@code null} if the value is looked up for the first time
+     */
+    Entry lookup(Object value) {
+        purge();
+        int hash = System.identityHashCode(value);
+        int slot = hash & (SLOTS - 1);
+        Entry entry = entries.get(slot);
+        if (entry != null && entry.get() == value) {
+            return entry;
+        }
+        if (sightings.getAndSet(slot, hash) != hash) {
+            return null;
+        }
+        entry = new Entry(value, slot, collected);
+        entries.set(slot, entry);
+        return entry;
+    }
+
+    private void purge() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            Entry entry = (Entry) reference;
+            entry.encoded = null;
+            entries.compareAndSet(entry.slot, entry, null);
+        }
+    }
+
+    static final class Entry extends WeakReference<Object> {
+
+        private final int slot;
+        private volatile byte[] encoded;
+
+        private Entry(Object value, int slot, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.slot = slot;
+        }
+
+        byte[] getEncoded() {
+            return encoded;
+        }
+
+        void setEncoded(byte[] encoded) {
+            this.encoded = encoded;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class EnumEncodePlan extends EncodePlan {
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+
+    EnumEncodePlan(Schema schema) {
+        List<String> symbols = schema.getEnumSymbols();
+        for (int i = 0; i < symbols.size(); i++) {
+            ordinals.put(symbols.get(i), i);
+        }
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        Integer ordinal = ordinals.get(cast(value, BString.class).getValue());
+        if (ordinal == null) {
+            throw new Exception("Unknown enum symbol: " + value);
+        }
+        out.writeInt(ordinal);
+    }
+}
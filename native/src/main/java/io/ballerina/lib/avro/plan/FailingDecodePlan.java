@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+/**
+ * Rejects every input. Used for the parts of a schema that are only reached by inputs the plans do not handle.
+ */
+final class FailingDecodePlan extends DecodePlan {
+
+    private final String reason;
+
+    FailingDecodePlan(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        throw new NotHandledException(reason);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+/**
+ * Rejects every value. Used for the parts of a schema that are only reached by values the plans do not handle.
+ */
+final class FailingEncodePlan extends EncodePlan {
+
+    private final String reason;
+
+    FailingEncodePlan(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        throw new NotHandledException(reason);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+final class FixedEncodePlan extends EncodePlan {
+
+    private final int size;
+
+    FixedEncodePlan(int size) {
+        this.size = size;
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        byte[] bytes = getBytes(value);
+        if (bytes.length < size) {
+            throw new Exception("The value is shorter than the fixed size " + size);
+        }
+        out.writeFixed(bytes, 0, size);
+    }
+}
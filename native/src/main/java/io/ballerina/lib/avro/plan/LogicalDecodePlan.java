@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
+import io.ballerina.runtime.api.types.Type;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+import java.nio.ByteBuffer;
+
+final class LogicalDecodePlan extends DecodePlan {
+
+    private final LogicalTypeConverter converter;
+    private final Type targetType;
+    private final Schema schema;
+
+    /**
+     * Creates the plan of a logical type.
+     *
+     * @param converter  the converter of the logical type
+     * @param targetType the expected Ballerina type or {@code null} if the value is untyped
+     * @param schema     the schema of the encoded value
+     */
+    LogicalDecodePlan(LogicalTypeConverter converter, Type targetType, Schema schema) {
+        this.converter = converter;
+        this.targetType = targetType;
+        this.schema = schema;
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        Object avroValue = switch (schema.getType()) {
+            case INT -> in.readInt();
+            case LONG -> in.readLong();
+            case STRING -> in.readString();
+            case BYTES -> ByteBuffer.wrap(in.readBytes());
+            case FIXED -> new GenericData.Fixed(schema, in.readFixed(schema.getFixedSize()));
+            default -> throw new NotHandledException("Unsupported schema type: " + schema.getType());
+        };
+        return converter.fromAvro(avroValue, targetType);
+    }
+}
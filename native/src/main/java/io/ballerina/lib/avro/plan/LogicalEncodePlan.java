@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericFixed;
+
+import java.nio.ByteBuffer;
+
+final class LogicalEncodePlan extends EncodePlan {
+
+    private final LogicalTypeConverter converter;
+    private final Schema.Type type;
+    private final int fixedSize;
+
+    LogicalEncodePlan(LogicalTypeConverter converter, Schema schema) {
+        this.converter = converter;
+        this.type = schema.getType();
+        this.fixedSize = type == Schema.Type.FIXED ? schema.getFixedSize() : 0;
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        Object avroValue = converter.toAvro(value);
+        switch (type) {
+            case INT -> out.writeInt(((Number) avroValue).intValue());
+            case LONG -> out.writeLong(((Number) avroValue).longValue());
+            case STRING -> out.writeString(avroValue.toString());
+            case BYTES -> {
+                ByteBuffer bytes = (ByteBuffer) avroValue;
+                out.writeBytes(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            }
+            case FIXED -> out.writeFixed(((GenericFixed) avroValue).bytes(), 0, fixedSize);
+            default -> throw new NotHandledException("Unsupported schema type: " + type);
+        }
+    }
+}
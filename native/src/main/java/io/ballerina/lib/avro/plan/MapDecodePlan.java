@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+final class MapDecodePlan extends DecodePlan {
+
+    private final DecodePlan valuePlan;
+    private final MapType mapType;
+    private final Type convertedType;
+
+    /**
+     * Creates the plan of a map that is converted to the given type.
+     *
+     * @param valuePlan the plan of the values
+     * @param type      the type the Ballerina map is converted to
+     */
+    MapDecodePlan(DecodePlan valuePlan, Type type) {
+        this(valuePlan, null, type);
+    }
+
+    private MapDecodePlan(DecodePlan valuePlan, MapType mapType, Type convertedType) {
+        this.valuePlan = valuePlan;
+        this.mapType = mapType;
+        this.convertedType = convertedType;
+    }
+
+    /**
+     * Creates the plan of a map that is created with the given type and returned as it is.
+     *
+     * @param valuePlan the plan of the values
+     * @param mapType   the type of the Ballerina map
+     * @return the plan
+     */
+    static MapDecodePlan untyped(DecodePlan valuePlan, MapType mapType) {
+        return new MapDecodePlan(valuePlan, mapType, null);
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        BMap<BString, Object> map = createMap();
+        for (long count = in.readItemCount(); count > 0; count = in.readItemCount()) {
+            for (long i = 0; i < count; i++) {
+                BString key = StringUtils.fromString(in.readString());
+                map.put(key, valuePlan.decode(in));
+            }
+        }
+        return convert(map);
+    }
+
+    @Override
+    DecodeFrame start(ByteReader in) {
+        BMap<BString, Object> map = createMap();
+        return new DecodeFrame() {
+            private long remaining = 0;
+            private boolean isEnd = false;
+            private BString key;
+
+            @Override
+            DecodePlan next(ByteReader in) throws Exception {
+                if (remaining == 0 && !isEnd) {
+                    remaining = in.readItemCount();
+                    isEnd = remaining == 0;
+                }
+                if (isEnd) {
+                    return null;
+                }
+                remaining--;
+                key = StringUtils.fromString(in.readString());
+                return valuePlan;
+            }
+
+            @Override
+            void accept(Object value) {
+                map.put(key, value);
+            }
+
+            @Override
+            Object finish() {
+                return convert(map);
+            }
+        };
+    }
+
+    private BMap<BString, Object> createMap() {
+        return mapType == null ? ValueCreator.createMapValue() : ValueCreator.createMapValue(mapType);
+    }
+
+    private Object convert(BMap<BString, Object> map) {
+        return convertedType == null ? map : ValueUtils.convert(map, convertedType);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.values.BMap;
+
+final class MapEncodePlan extends EncodePlan {
+
+    private final EncodePlan valuePlan;
+
+    MapEncodePlan(EncodePlan valuePlan) {
+        this.valuePlan = valuePlan;
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        BMap<?, ?> map = cast(value, BMap.class);
+        out.writeItemCount(map.size());
+        for (Object key : map.getKeys()) {
+            out.writeString(key.toString());
+            valuePlan.encode(map.get(key), out);
+        }
+        out.writeEnd();
+    }
+
+    @Override
+    void push(Object value, AvroWriter out, EncodeStack stack) throws Exception {
+        BMap<?, ?> map = cast(value, BMap.class);
+        out.writeItemCount(map.size());
+        stack.push(EncodeStack.END, null);
+        Object[] keys = map.getKeys();
+        for (int i = keys.length - 1; i >= 0; i--) {
+            stack.push(valuePlan, map.get(keys[i]));
+            stack.push(EncodeStack.KEY, keys[i]);
+        }
+    }
+}
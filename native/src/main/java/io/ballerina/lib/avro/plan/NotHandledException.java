@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+/**
+ * Thrown by a plan for a value or an input that it does not handle, so that the caller falls back to the visitors.
+ * Any other checked exception thrown by a plan means that the value or the input is invalid.
+ *
+ * @since 1.2.1
+ */
+final class NotHandledException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    NotHandledException(String message) {
+        // The exception only redirects the call to the visitors, so its stack trace is never needed.
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+import java.util.Arrays;
+
+final class PrimitiveArrayDecodePlan extends DecodePlan {
+
+    private final Schema.Type itemType;
+    private final BString[] symbols;
+    private final Type convertedType;
+
+    /**
+     * Creates the plan of an array of primitive or enum values.
+     *
+     * @param itemSchema    the schema of the items
+     * @param convertedType the type the Ballerina array is converted to or {@code null}
+     */
+    PrimitiveArrayDecodePlan(Schema itemSchema, Type convertedType) {
+        this.itemType = itemSchema.getType();
+        this.symbols = itemType == Schema.Type.ENUM ? PrimitiveDecodePlan.toSymbols(itemSchema) : null;
+        this.convertedType = convertedType;
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        BArray array = switch (itemType) {
+            case STRING, ENUM -> ValueCreator.createArrayValue(readStrings(in));
+            case INT, LONG -> ValueCreator.createArrayValue(readInts(in));
+            case FLOAT, DOUBLE -> ValueCreator.createArrayValue(readFloats(in));
+            case BOOLEAN -> ValueCreator.createArrayValue(readBooleans(in));
+            default -> throw new NotHandledException("Unsupported schema type: " + itemType);
+        };
+        return convertedType == null ? array : ValueUtils.convert(array, convertedType);
+    }
+
+    private BString[] readStrings(ByteReader in) throws Exception {
+        BString[] items = new BString[0];
+        int size = 0;
+        for (long count = in.readItemCount(); count > 0; count = in.readItemCount()) {
+            items = Arrays.copyOf(items, capacity(size, count, in));
+            for (long i = 0; i < count; i++) {
+                items[size++] = itemType == Schema.Type.ENUM ? PrimitiveDecodePlan.readSymbol(in, symbols)
+                        : StringUtils.fromString(in.readString());
+            }
+        }
+        return items.length == size ? items : Arrays.copyOf(items, size);
+    }
+
+    private long[] readInts(ByteReader in) throws Exception {
+        long[] items = new long[0];
+        int size = 0;
+        for (long count = in.readItemCount(); count > 0; count = in.readItemCount()) {
+            items = Arrays.copyOf(items, capacity(size, count, in));
+            for (long i = 0; i < count; i++) {
+                items[size++] = itemType == Schema.Type.INT ? in.readInt() : in.readLong();
+            }
+        }
+        return items.length == size ? items : Arrays.copyOf(items, size);
+    }
+
+    private double[] readFloats(ByteReader in) throws Exception {
+        double[] items = new double[0];
+        int size = 0;
+        for (long count = in.readItemCount(); count > 0; count = in.readItemCount()) {
+            items = Arrays.copyOf(items, capacity(size, count, in));
+            for (long i = 0; i < count; i++) {
+                items[size++] = itemType == Schema.Type.FLOAT ? Double.parseDouble(Float.toString(in.readFloat()))
+                        : in.readDouble();
+            }
+        }
+        return items.length == size ? items : Arrays.copyOf(items, size);
+    }
+
+    private boolean[] readBooleans(ByteReader in) throws Exception {
+        boolean[] items = new boolean[0];
+        int size = 0;
+        for (long count = in.readItemCount(); count > 0; count = in.readItemCount()) {
+            items = Arrays.copyOf(items, capacity(size, count, in));
+            for (long i = 0; i < count; i++) {
+                items[size++] = in.readBoolean();
+            }
+        }
+        return items.length == size ? items : Arrays.copyOf(items, size);
+    }
+
+    // Every item takes at least one byte, so a count beyond the remaining bytes is malformed.
+    private static int capacity(int size, long count, ByteReader in) throws Exception {
+        if (count > in.remaining()) {
+            throw new Exception("Malformed data. Array count exceeds the remaining bytes: " + count);
+        }
+        return size + (int) count;
+    }
+}
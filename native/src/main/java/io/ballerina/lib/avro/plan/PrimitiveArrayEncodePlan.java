@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import org.apache.avro.Schema;
+
+final class PrimitiveArrayEncodePlan extends EncodePlan {
+
+    private final Schema.Type itemType;
+
+    PrimitiveArrayEncodePlan(Schema.Type itemType) {
+        this.itemType = itemType;
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        BArray array = cast(value, BArray.class);
+        if (!isUnboxed(TypeUtils.getImpliedType(array.getElementType()).getTag())) {
+            throw new NotHandledException("Unexpected array of " + array.getElementType());
+        }
+        switch (itemType) {
+            case STRING -> {
+                String[] items = array.getStringArray();
+                out.writeItemCount(items.length);
+                for (String item : items) {
+                    out.writeString(item);
+                }
+            }
+            case INT -> {
+                long[] items = array.getIntArray();
+                out.writeItemCount(items.length);
+                for (long item : items) {
+                    out.writeInt((int) item);
+                }
+            }
+            case LONG -> {
+                long[] items = array.getIntArray();
+                out.writeItemCount(items.length);
+                for (long item : items) {
+                    out.writeLong(item);
+                }
+            }
+            case FLOAT -> {
+                double[] items = array.getFloatArray();
+                out.writeItemCount(items.length);
+                for (double item : items) {
+                    out.writeFloat((float) item);
+                }
+            }
+            case DOUBLE -> {
+                double[] items = array.getFloatArray();
+                out.writeItemCount(items.length);
+                for (double item : items) {
+                    out.writeDouble(item);
+                }
+            }
+            case BOOLEAN -> {
+                boolean[] items = array.getBooleanArray();
+                out.writeItemCount(items.length);
+                for (boolean item : items) {
+                    out.writeBoolean(item);
+                }
+            }
+            default -> throw new NotHandledException("Unsupported schema type: " + itemType);
+        }
+        out.writeEnd();
+    }
+
+    // The members of the array are read unboxed, which only the arrays of the item type store them as.
+    private boolean isUnboxed(int itemTag) {
+        return switch (itemType) {
+            case STRING -> TypeTags.isStringTypeTag(itemTag);
+            case INT, LONG -> TypeTags.isIntegerTypeTag(itemTag);
+            case FLOAT, DOUBLE -> itemTag == TypeTags.FLOAT_TAG;
+            case BOOLEAN -> itemTag == TypeTags.BOOLEAN_TAG;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+final class PrimitiveDecodePlan extends DecodePlan {
+
+    private final Schema.Type type;
+    private final boolean isWideningInt;
+    private final BString[] symbols;
+    private final int fixedSize;
+
+    private PrimitiveDecodePlan(Schema.Type type, boolean isWideningInt, BString[] symbols, int fixedSize) {
+        this.type = type;
+        this.isWideningInt = isWideningInt;
+        this.symbols = symbols;
+        this.fixedSize = fixedSize;
+    }
+
+    /**
+     * Creates the plan of a primitive, enum or fixed schema.
+     *
+     * @param schema        the Avro schema
+     * @param isWideningInt whether an Avro `int` is read as a Ballerina `int` instead of a Java `Integer`
+     * @return the plan
+     */
+    static PrimitiveDecodePlan of(Schema schema, boolean isWideningInt) {
+        return switch (schema.getType()) {
+            case ENUM -> new PrimitiveDecodePlan(Schema.Type.ENUM, false, toSymbols(schema), 0);
+            case FIXED -> new PrimitiveDecodePlan(Schema.Type.FIXED, false, null, schema.getFixedSize());
+            default -> new PrimitiveDecodePlan(schema.getType(), isWideningInt, null, 0);
+        };
+    }
+
+    static BString[] toSymbols(Schema schema) {
+        return schema.getEnumSymbols().stream().map(StringUtils::fromString).toArray(BString[]::new);
+    }
+
+    static BString readSymbol(ByteReader in, BString[] symbols) throws Exception {
+        int index = in.readInt();
+        if (index < 0 || index >= symbols.length) {
+            throw new Exception("Enum index out of range: " + index);
+        }
+        return symbols[index];
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        return switch (type) {
+            case STRING -> StringUtils.fromString(in.readString());
+            case ENUM -> readSymbol(in, symbols);
+            case INT -> isWideningInt ? (Object) (long) in.readInt() : (Object) in.readInt();
+            case LONG -> in.readLong();
+            case FLOAT -> Double.parseDouble(Float.toString(in.readFloat()));
+            case DOUBLE -> in.readDouble();
+            case BOOLEAN -> in.readBoolean();
+            case BYTES -> ValueCreator.createArrayValue(in.readBytes());
+            case FIXED -> ValueCreator.createArrayValue(in.readFixed(fixedSize));
+            case NULL -> null;
+            default -> throw new NotHandledException("Unsupported schema type: " + type);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+final class PrimitiveEncodePlan extends EncodePlan {
+
+    private final Schema.Type type;
+
+    PrimitiveEncodePlan(Schema.Type type) {
+        this.type = type;
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        switch (type) {
+            case INT -> out.writeInt(cast(value, Long.class).intValue());
+            case LONG -> out.writeLong(cast(value, Long.class));
+            case FLOAT -> out.writeFloat(cast(value, Double.class).floatValue());
+            case DOUBLE -> {
+                if (value instanceof Double doubleValue) {
+                    out.writeDouble(doubleValue);
+                } else if (value instanceof Long longValue) {
+                    out.writeDouble(longValue.doubleValue());
+                } else {
+                    out.writeDouble(cast(value, BDecimal.class).floatValue());
+                }
+            }
+            case BOOLEAN -> out.writeBoolean(cast(value, Boolean.class));
+            case STRING -> out.writeString(cast(value, BString.class).getValue());
+            case BYTES -> out.writeBytes(getBytes(value));
+            case NULL -> {
+                if (value != null) {
+                    throw new Exception("The value does not match with the null schema");
+                }
+            }
+            default -> throw new NotHandledException("Unsupported schema type: " + type);
+        }
+    }
+}
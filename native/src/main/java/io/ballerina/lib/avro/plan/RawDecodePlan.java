@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import org.apache.avro.Schema;
+
+/**
+ * Keeps a value of a record field in its Avro binary encoding, as an {@code avro:Raw} value.
+ */
+final class RawDecodePlan extends DecodePlan {
+
+    private final Schema schema;
+
+    RawDecodePlan(Schema schema) {
+        this.schema = schema;
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        int start = in.position();
+        DatumSkipper.skip(schema, in);
+        return RawValue.create(in.copyFrom(start));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import org.apache.avro.Schema;
+
+import java.io.IOException;
+
+/**
+ * Writes the bytes of an {@code avro:Raw} value of a record field as they are.
+ */
+final class RawEncodePlan extends EncodePlan {
+
+    private final Schema schema;
+
+    RawEncodePlan(Schema schema) {
+        this.schema = schema;
+    }
+
+    // The encoded value is only walked, not decoded, to check that it is a single datum of the field schema.
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        BArray bytes = RawValue.getBytes((BMap<?, ?>) value);
+        ByteReader in = new ByteReader(bytes.getByteArray(), 0, bytes.size());
+        DatumSkipper.skip(schema, in);
+        if (in.remaining() > 0) {
+            throw new IOException("Malformed data. " + in.remaining() + " bytes remain after the raw value");
+        }
+        out.writeFixed(bytes.getByteArray(), 0, bytes.size());
+    }
+}
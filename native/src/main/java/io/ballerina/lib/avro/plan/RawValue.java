@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.lib.avro.ModuleUtils;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Creates and recognizes {@code avro:Raw} values, which hold a value of a record field in its Avro binary encoding.
+ * A raw value is kept encoded when it is decoded and written as is when it is encoded.
+ *
+ * @since 1.2.1
+ */
+public final class RawValue {
+
+    private static final String RAW_TYPE = "Raw";
+    private static final String READONLY_RAW_TYPE = RAW_TYPE + " & readonly";
+    private static final BString BYTES = StringUtils.fromString("bytes");
+
+    private RawValue() {}
+
+    /**
+     * Checks whether the given type is {@code avro:Raw}.
+     *
+     * @param type the Ballerina type
+     * @return whether the type is {@code avro:Raw}
+     */
+    public static boolean isRaw(Type type) {
+        if (type == null) {
+            return false;
+        }
+        Type impliedType = TypeUtils.getImpliedType(type);
+        if (impliedType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return false;
+        }
+        String name = impliedType.getName();
+        return (RAW_TYPE.equals(name) || READONLY_RAW_TYPE.equals(name)) && isAvroModule(impliedType.getPackage());
+    }
+
+    /**
+     * Checks whether the given type has a record field of the {@code avro:Raw} type at any depth.
+     *
+     * @param type the Ballerina type
+     * @return whether the type has a raw field
+     */
+    public static boolean containsRaw(Type type) {
+        return containsRaw(type, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static boolean containsRaw(Type type, Set<Type> visited) {
+        Type impliedType = TypeUtils.getImpliedType(type);
+        if (!visited.add(impliedType)) {
+            return false;
+        }
+        return switch (impliedType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG -> {
+                for (Field field : ((RecordType) impliedType).getFields().values()) {
+                    if (isRaw(field.getFieldType()) || containsRaw(field.getFieldType(), visited)) {
+                        yield true;
+                    }
+                }
+                yield false;
+            }
+            case TypeTags.ARRAY_TAG -> containsRaw(((ArrayType) impliedType).getElementType(), visited);
+            case TypeTags.MAP_TAG -> containsRaw(((MapType) impliedType).getConstrainedType(), visited);
+            default -> false;
+        };
+    }
+
+    static BMap<BString, Object> create(byte[] encoded) {
+        BArray bytes = ValueCreator.createArrayValue(encoded);
+        bytes.freezeDirect();
+        BMap<BString, Object> raw = ValueCreator.createRecordValue(ModuleUtils.getModule(), RAW_TYPE);
+        raw.put(BYTES, bytes);
+        return raw;
+    }
+
+    static BArray getBytes(BMap<?, ?> raw) {
+        return (BArray) raw.get(BYTES);
+    }
+
+    private static boolean isAvroModule(Module module) {
+        Module avroModule = ModuleUtils.getModule();
+        return module != null && avroModule != null && avroModule.getOrg().equals(module.getOrg())
+                && avroModule.getName().equals(module.getName());
+    }
+}
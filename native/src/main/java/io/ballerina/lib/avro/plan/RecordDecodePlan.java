@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+final class RecordDecodePlan extends DecodePlan {
+
+    private RecordType recordType;
+    private boolean isReadOnly;
+    private BString[] fieldNames;
+    private DecodePlan[] fieldPlans;
+
+    // The fields are set after the plan is created, so that recursive schemas can refer to the plan.
+    void init(RecordType recordType, boolean isReadOnly, BString[] fieldNames, DecodePlan[] fieldPlans) {
+        this.recordType = recordType;
+        this.isReadOnly = isReadOnly;
+        this.fieldNames = fieldNames;
+        this.fieldPlans = fieldPlans;
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(recordType);
+        for (int i = 0; i < fieldPlans.length; i++) {
+            record.put(fieldNames[i], fieldPlans[i].decode(in));
+        }
+        if (isReadOnly) {
+            record.freezeDirect();
+        }
+        return record;
+    }
+
+    @Override
+    DecodeFrame start(ByteReader in) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(recordType);
+        return new DecodeFrame() {
+            private int index = 0;
+
+            @Override
+            DecodePlan next(ByteReader in) {
+                return index < fieldPlans.length ? fieldPlans[index] : null;
+            }
+
+            @Override
+            void accept(Object value) {
+                record.put(fieldNames[index++], value);
+            }
+
+            @Override
+            Object finish() {
+                if (isReadOnly) {
+                    record.freezeDirect();
+                }
+                return record;
+            }
+        };
+    }
+}
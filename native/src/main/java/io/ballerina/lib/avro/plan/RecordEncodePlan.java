@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.apache.avro.Schema;
+
+final class RecordEncodePlan extends EncodePlan {
+
+    private final EncodedValueCache cache = new EncodedValueCache();
+    private BString[] fieldNames;
+    private EncodePlan[] rawPlans;
+    private EncodePlan[] fieldPlans;
+    // The last type of record value seen in each field and whether it is avro:Raw, as a field almost always holds
+    // values of the same type.
+    private FieldType[] fieldTypes;
+
+    // The fields are set after the plan is created, so that recursive schemas can refer to the plan.
+    void init(BString[] fieldNames, Schema[] fieldSchemas, EncodePlan[] fieldPlans) {
+        this.fieldNames = fieldNames;
+        this.rawPlans = new EncodePlan[fieldSchemas.length];
+        for (int i = 0; i < fieldSchemas.length; i++) {
+            rawPlans[i] = new RawEncodePlan(fieldSchemas[i]);
+        }
+        this.fieldPlans = fieldPlans;
+        this.fieldTypes = new FieldType[fieldSchemas.length];
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        BMap<?, ?> record = cast(value, BMap.class);
+        // A readonly record cannot change, so the bytes of a record encoded before are reused.
+        EncodedValueCache.Entry entry = record.isFrozen() ? cache.lookup(record) : null;
+        if (entry == null) {
+            encodeFields(record, out);
+            return;
+        }
+        byte[] encoded = entry.getEncoded();
+        if (encoded == null) {
+            ByteWriter fields = new ByteWriter();
+            encodeFields(record, fields);
+            encoded = fields.toByteArray();
+            entry.setEncoded(encoded);
+        }
+        out.writeFixed(encoded, 0, encoded.length);
+    }
+
+    // The cache of encoded records is not used here, as filling it writes the fields on the stack of the thread.
+    @Override
+    void push(Object value, AvroWriter out, EncodeStack stack) throws Exception {
+        BMap<?, ?> record = cast(value, BMap.class);
+        for (int i = fieldPlans.length - 1; i >= 0; i--) {
+            Object fieldValue = record.get(fieldNames[i]);
+            stack.push(isRaw(i, fieldValue) ? rawPlans[i] : fieldPlans[i], fieldValue);
+        }
+    }
+
+    private void encodeFields(BMap<?, ?> record, AvroWriter out) throws Exception {
+        for (int i = 0; i < fieldPlans.length; i++) {
+            Object fieldValue = record.get(fieldNames[i]);
+            if (isRaw(i, fieldValue)) {
+                rawPlans[i].encode(fieldValue, out);
+            } else {
+                fieldPlans[i].encode(fieldValue, out);
+            }
+        }
+    }
+
+    // Only record values can be raw, and the type of a record value is checked once until another type is seen.
+    private boolean isRaw(int field, Object value) {
+        if (!(value instanceof BMap<?, ?> map)) {
+            return false;
+        }
+        Type type = map.getType();
+        FieldType fieldType = fieldTypes[field];
+        if (fieldType == null || fieldType.type() != type) {
+            fieldType = new FieldType(type, RawValue.isRaw(type));
+            fieldTypes[field] = fieldType;
+        }
+        return fieldType.isRaw();
+    }
+
+    private record FieldType(Type type, boolean isRaw) {
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Writes the smallest datum of a schema that a target type accepts: empty arrays and maps, the first enum symbol,
+ * zero values and, for each union, the {@code null} branch or else the first branch that the target type accepts and
+ * that does not nest a record in itself. It is used to warm up the plans of a schema without user data.
+ */
+final class SampleDatum {
+
+    private static final String ZERO_UUID = "00000000-0000-0000-0000-000000000000";
+
+    private SampleDatum() {}
+
+    /**
+     * Writes the smallest datum of a schema that the target type accepts.
+     *
+     * @param schema     the Avro schema
+     * @param targetType the expected Ballerina type
+     * @return the encoded datum or {@code null} if the schema has no finite datum that the target type accepts
+     */
+    static byte[] of(Schema schema, Type targetType) {
+        ByteWriter out = new ByteWriter();
+        return write(schema, targetType, out, Collections.newSetFromMap(new IdentityHashMap<>()))
+                ? out.toByteArray() : null;
+    }
+
+    // The target type is null when it is not known, in which case any datum is written.
+    private static boolean write(Schema schema, Type targetType, ByteWriter out, Set<Schema> enclosing) {
+        if (!accepts(targetType, schema)) {
+            return false;
+        }
+        LogicalType logicalType = schema.getLogicalType();
+        switch (schema.getType()) {
+            case RECORD -> {
+                if (!enclosing.add(schema)) {
+                    return false;
+                }
+                for (Schema.Field field : schema.getFields()) {
+                    if (!write(field.schema(), getFieldType(targetType, field.name()), out, enclosing)) {
+                        enclosing.remove(schema);
+                        return false;
+                    }
+                }
+                enclosing.remove(schema);
+            }
+            case UNION -> {
+                Integer nullBranch = schema.getIndexNamed(Schema.Type.NULL.getName());
+                if (nullBranch != null && writeBranch(schema, nullBranch, targetType, out, enclosing)) {
+                    return true;
+                }
+                for (int i = 0; i < schema.getTypes().size(); i++) {
+                    if ((nullBranch == null || i != nullBranch) && writeBranch(schema, i, targetType, out, enclosing)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            case ARRAY, MAP -> out.writeEnd();
+            case FIXED -> out.writeFixed(new byte[schema.getFixedSize()], 0, schema.getFixedSize());
+            case STRING -> out.writeString(isUuid(logicalType) ? ZERO_UUID : "");
+            // A decimal needs at least one byte of the unscaled value.
+            case BYTES -> out.writeBytes(logicalType instanceof LogicalTypes.Decimal ? new byte[1] : new byte[0]);
+            case ENUM, INT -> out.writeInt(0);
+            case LONG -> out.writeLong(0);
+            case FLOAT -> out.writeFloat(0);
+            case DOUBLE -> out.writeDouble(0);
+            case BOOLEAN -> out.writeBoolean(false);
+            default -> out.writeNull();
+        }
+        return true;
+    }
+
+    private static boolean writeBranch(Schema union, int branch, Type targetType, ByteWriter out,
+                                       Set<Schema> enclosing) {
+        int size = out.size();
+        out.writeInt(branch);
+        if (write(union.getTypes().get(branch), targetType, out, enclosing)) {
+            return true;
+        }
+        out.truncate(size);
+        return false;
+    }
+
+    // Only rules out the schemas whose values a type clearly does not accept, so that a datum is still written for
+    // the types that are resolved by the deserializer.
+    private static boolean accepts(Type targetType, Schema schema) {
+        if (targetType == null || schema.getType() == Schema.Type.UNION) {
+            return true;
+        }
+        Type type = TypeUtils.getImpliedType(targetType);
+        Schema.Type schemaType = schema.getType();
+        return switch (type.getTag()) {
+            case TypeTags.UNION_TAG -> {
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    if (accepts(memberType, schema)) {
+                        yield true;
+                    }
+                }
+                yield false;
+            }
+            case TypeTags.ANYDATA_TAG, TypeTags.JSON_TAG, TypeTags.ANY_TAG, TypeTags.READONLY_TAG,
+                    TypeTags.FINITE_TYPE_TAG -> true;
+            case TypeTags.NULL_TAG -> schemaType == Schema.Type.NULL;
+            case TypeTags.BOOLEAN_TAG -> schemaType == Schema.Type.BOOLEAN;
+            case TypeTags.STRING_TAG, TypeTags.CHAR_STRING_TAG ->
+                    schemaType == Schema.Type.STRING || schemaType == Schema.Type.ENUM;
+            case TypeTags.INT_TAG, TypeTags.BYTE_TAG, TypeTags.SIGNED8_INT_TAG, TypeTags.SIGNED16_INT_TAG,
+                    TypeTags.SIGNED32_INT_TAG, TypeTags.UNSIGNED8_INT_TAG, TypeTags.UNSIGNED16_INT_TAG,
+                    TypeTags.UNSIGNED32_INT_TAG -> schemaType == Schema.Type.INT || schemaType == Schema.Type.LONG;
+            case TypeTags.FLOAT_TAG, TypeTags.DECIMAL_TAG -> schemaType != Schema.Type.NULL
+                    && schemaType != Schema.Type.BOOLEAN && schemaType != Schema.Type.STRING;
+            default -> schemaType != Schema.Type.NULL;
+        };
+    }
+
+    private static Type getFieldType(Type targetType, String fieldName) {
+        if (targetType == null) {
+            return null;
+        }
+        Type type = TypeUtils.getImpliedType(targetType);
+        if (type instanceof RecordType recordType) {
+            Field field = recordType.getFields().get(fieldName);
+            return field != null ? field.getFieldType() : recordType.getRestFieldType();
+        }
+        return type instanceof MapType mapType ? mapType.getConstrainedType() : null;
+    }
+
+    private static boolean isUuid(LogicalType logicalType) {
+        return logicalType != null && LogicalTypes.uuid().getName().equals(logicalType.getName());
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.types.Type;
+import org.apache.avro.Schema;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the compiled plans of a schema. A schema is served by the visitors until it has been used for more than the
+ * compilation threshold number of calls. The encode plan and the decode plan of each target type are then compiled
+ * and reused by every later call. The decode plans of a bounded number of target types are kept, and the plan of the
+ * target type that was compiled first is dropped when another is compiled.
+ * <p>
+ * A recursive schema is served by the plans from the first call, and its plans are run with {@link EncodeStack} and
+ * {@link DecodeStack}, so that deeply nested values are neither limited by the stack of the thread nor walked by the
+ * visitors, which create objects for every level.
+ *
+ * @since 1.2.1
+ */
+public final class SchemaPlans {
+
+    /**
+     * Returned by {@link #decode(byte[], Type)} when the input is not handled by a plan.
+     */
+    public static final Object NOT_DECODED = new Object();
+
+    private static final EncodePlan NO_ENCODE_PLAN = new FailingEncodePlan("No plan");
+    private static final DecodePlan NO_DECODE_PLAN = new FailingDecodePlan("No plan");
+
+    // The default of the planCompilationThreshold configurable, which sets the threshold when the module starts.
+    private static final long DEFAULT_COMPILATION_THRESHOLD = 8;
+    // The number of target types whose decode plans are kept, as types created at run time would otherwise grow the
+    // plans of a schema without a bound.
+    private static final int MAX_TARGET_TYPES = 64;
+
+    private static volatile long compilationThreshold = DEFAULT_COMPILATION_THRESHOLD;
+
+    private final Schema schema;
+    // Whether the values follow the rules of record fields, as the values of a part of a schema do.
+    private final boolean isField;
+    private final boolean isRecursive;
+    private final AtomicLong encodeCalls = new AtomicLong();
+    private final AtomicLong decodeCalls = new AtomicLong();
+    private volatile EncodePlan encodePlan;
+    // Copied on write, as the plans of a schema are compiled once and read on every call.
+    private volatile Map<Type, DecodePlan> decodePlans = new IdentityHashMap<>();
+    // Whether each type of values has avro:Raw fields, also copied on write.
+    private volatile Map<Type, Boolean> rawTypes = new IdentityHashMap<>();
+    // The types of each map in the order they were added, which are only used while holding the lock of the plans.
+    private final ArrayDeque<Type> decodeTypeOrder = new ArrayDeque<>();
+    private final ArrayDeque<Type> rawTypeOrder = new ArrayDeque<>();
+
+    public SchemaPlans(Schema schema) {
+        this(schema, false);
+    }
+
+    private SchemaPlans(Schema schema, boolean isField) {
+        this.schema = schema;
+        this.isField = isField;
+        this.isRecursive = isRecursive(schema, Collections.newSetFromMap(new IdentityHashMap<>()),
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * Creates the plans of the values of a part of a schema, such as a record field or the items of an array, which
+     * follow the rules of record fields. Only the encode plan is used for such values.
+     *
+     * @param schema the schema of the values
+     * @return the plans of the values
+     */
+    public static SchemaPlans ofValues(Schema schema) {
+        return new SchemaPlans(schema, true);
+    }
+
+    /**
+     * Sets the number of calls on a schema that are served by the visitors before its plans are compiled. A negative
+     * value disables the plans, except for the values with {@code avro:Raw} fields, which only the plans handle.
+     *
+     * @param threshold the number of calls
+     */
+    public static void setCompilationThreshold(long threshold) {
+        compilationThreshold = threshold;
+    }
+
+    /**
+     * Encodes a value with the plan of the schema.
+     *
+     * @param value the Ballerina value
+     * @return the encoded value or {@code null} if the value is not handled by the plan
+     * @throws Exception if the plan finds the value invalid
+     */
+    public byte[] encode(Object value) throws Exception {
+        EncodePlan plan = getHotEncodePlan();
+        if (plan == null) {
+            return null;
+        }
+        ByteWriter out = new ByteWriter();
+        return encode(plan, value, out) ? out.toByteArray() : null;
+    }
+
+    /**
+     * Encodes a value with the plan of the schema into the given writer. Nothing is written if the value is not
+     * handled by the plan.
+     *
+     * @param value the Ballerina value
+     * @param out   the writer
+     * @return whether the value was encoded
+     * @throws Exception if the plan finds the value invalid
+     */
+    public boolean encode(Object value, AvroWriter out) throws Exception {
+        EncodePlan plan = getHotEncodePlan();
+        return plan != null && encode(plan, value, out);
+    }
+
+    /**
+     * Computes the encoded size of a value with the plan of the schema, without writing the value.
+     *
+     * @param value the Ballerina value
+     * @return the encoded size or {@code -1} if the value is not handled by the plan
+     * @throws Exception if the plan finds the value invalid
+     */
+    public long encodedSize(Object value) throws Exception {
+        EncodePlan plan = compilationThreshold < 0 ? null : getEncodePlan();
+        if (plan == null) {
+            return -1;
+        }
+        SizeCounter counter = new SizeCounter();
+        return encode(plan, value, counter) ? counter.count() : -1;
+    }
+
+    /**
+     * Checks a value against the plan of the schema, without writing the value.
+     *
+     * @param value the Ballerina value
+     * @return whether the value is accepted by the plan, {@code false} if it is not handled by the plan
+     * @throws Exception if the plan finds the value invalid
+     */
+    public boolean validate(Object value) throws Exception {
+        EncodePlan plan = compilationThreshold < 0 ? null : getEncodePlan();
+        return plan != null && encode(plan, value, new SizeCounter());
+    }
+
+    /**
+     * Encodes a value with the plan of the schema even if the schema has not been used for the compilation threshold
+     * number of calls, for values such as those with {@code avro:Raw} fields that are only handled by the plan.
+     *
+     * @param value the Ballerina value
+     * @return the encoded value or {@code null} if the value is not handled by the plan
+     * @throws Exception if the plan finds the value invalid
+     */
+    public byte[] encodeNow(Object value) throws Exception {
+        ByteWriter out = new ByteWriter();
+        return encodeNow(value, out) ? out.toByteArray() : null;
+    }
+
+    /**
+     * Encodes a value with the plan of the schema into the given writer even if the schema has not been used for the
+     * compilation threshold number of calls. Nothing is written if the value is not handled by the plan.
+     *
+     * @param value the Ballerina value
+     * @param out   the writer
+     * @return whether the value was encoded
+     * @throws Exception if the plan finds the value invalid
+     */
+    public boolean encodeNow(Object value, AvroWriter out) throws Exception {
+        EncodePlan plan = getEncodePlan();
+        return plan != null && encode(plan, value, out);
+    }
+
+    private EncodePlan getHotEncodePlan() {
+        if (encodePlan == null && !isRecursiveOrHot(encodeCalls)) {
+            return null;
+        }
+        return getEncodePlan();
+    }
+
+    // A value that is not handled by the plan is left to the visitors, and an invalid value fails the call.
+    private boolean encode(EncodePlan plan, Object value, AvroWriter out) throws Exception {
+        int size = out.size();
+        try {
+            if (isRecursive) {
+                EncodeStack.encode(plan, value, out);
+            } else {
+                plan.encode(value, out);
+            }
+            return true;
+        } catch (NotHandledException e) {
+            out.truncate(size);
+            return false;
+        } catch (Exception e) {
+            out.truncate(size);
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes a value with the plan of the schema and the target type.
+     *
+     * @param data       the encoded value
+     * @param targetType the expected Ballerina type
+     * @return the Ballerina value or {@link #NOT_DECODED} if the input is not handled by the plan
+     * @throws Exception if the plan finds the input malformed
+     */
+    public Object decode(byte[] data, Type targetType) throws Exception {
+        return decode(data, 0, data.length, targetType);
+    }
+
+    /**
+     * Decodes a value from a part of the given array with the plan of the schema and the target type.
+     *
+     * @param data       the array holding the encoded value
+     * @param offset     the index of the first byte of the encoded value
+     * @param length     the length of the encoded value
+     * @param targetType the expected Ballerina type
+     * @return the Ballerina value or {@link #NOT_DECODED} if the input is not handled by the plan
+     * @throws Exception if the plan finds the input malformed
+     */
+    public Object decode(byte[] data, int offset, int length, Type targetType) throws Exception {
+        DecodePlan plan = decodePlans.get(targetType);
+        if (plan == null) {
+            // Unless the plans are disabled, untyped values are decoded by the plan from the first call, as the
+            // visitors convert them after decoding. Raw fields are decoded by the plan even if the plans are
+            // disabled, as the visitors do not keep them encoded.
+            boolean isPlanned = compilationThreshold >= 0
+                    && (DecodePlanCompiler.isUntyped(targetType) || isRecursiveOrHot(decodeCalls));
+            if (!isPlanned && !containsRaw(targetType)) {
+                return NOT_DECODED;
+            }
+            plan = compileDecodePlan(targetType);
+        }
+        if (plan == NO_DECODE_PLAN) {
+            return NOT_DECODED;
+        }
+        try {
+            ByteReader in = new ByteReader(data, offset, length);
+            return isRecursive ? DecodeStack.decode(plan, in) : plan.decode(in);
+        } catch (NotHandledException e) {
+            return NOT_DECODED;
+        }
+    }
+
+    /**
+     * Checks whether the given type has a record field of the {@code avro:Raw} type at any depth. The result is kept
+     * for each type, as the check walks the whole type.
+     *
+     * @param type the Ballerina type
+     * @return whether the type has a raw field
+     */
+    public boolean containsRaw(Type type) {
+        Boolean containsRaw = rawTypes.get(type);
+        if (containsRaw == null) {
+            containsRaw = RawValue.containsRaw(type);
+            synchronized (this) {
+                if (!rawTypes.containsKey(type)) {
+                    rawTypes = copyWith(rawTypes, rawTypeOrder, type, containsRaw);
+                }
+            }
+        }
+        return containsRaw;
+    }
+
+    /**
+     * Compiles the encode plan and the decode plan of the given target type without waiting for the compilation
+     * threshold.
+     *
+     * @param targetType the expected Ballerina type of decoded values
+     */
+    public void prepare(Type targetType) {
+        if (compilationThreshold < 0) {
+            return;
+        }
+        getEncodePlan();
+        getDecodePlan(targetType);
+    }
+
+    /**
+     * Returns a small datum of the schema that the target type accepts, which can be used to warm up the plans.
+     *
+     * @param targetType the expected Ballerina type of decoded values
+     * @return the encoded datum or {@code null} if the schema has no such datum
+     */
+    public byte[] createSample(Type targetType) {
+        return SampleDatum.of(schema, targetType);
+    }
+
+    private boolean isRecursiveOrHot(AtomicLong calls) {
+        long threshold = compilationThreshold;
+        return threshold >= 0 && (isRecursive || calls.get() >= threshold || calls.incrementAndGet() > threshold);
+    }
+
+    // A schema is recursive if a record refers to itself through its fields.
+    private static boolean isRecursive(Schema schema, Set<Schema> enclosing, Set<Schema> visited) {
+        return switch (schema.getType()) {
+            case RECORD -> {
+                if (enclosing.contains(schema)) {
+                    yield true;
+                }
+                if (!visited.add(schema)) {
+                    yield false;
+                }
+                enclosing.add(schema);
+                for (Schema.Field field : schema.getFields()) {
+                    if (isRecursive(field.schema(), enclosing, visited)) {
+                        yield true;
+                    }
+                }
+                enclosing.remove(schema);
+                yield false;
+            }
+            case ARRAY -> isRecursive(schema.getElementType(), enclosing, visited);
+            case MAP -> isRecursive(schema.getValueType(), enclosing, visited);
+            case UNION -> {
+                for (Schema branch : schema.getTypes()) {
+                    if (isRecursive(branch, enclosing, visited)) {
+                        yield true;
+                    }
+                }
+                yield false;
+            }
+            default -> false;
+        };
+    }
+
+    public EncodePlan getEncodePlan() {
+        EncodePlan plan = encodePlan;
+        if (plan == null) {
+            plan = isField ? EncodePlanCompiler.compileValue(schema) : EncodePlanCompiler.compile(schema);
+            encodePlan = plan == null ? NO_ENCODE_PLAN : plan;
+        }
+        return plan == NO_ENCODE_PLAN ? null : plan;
+    }
+
+    public DecodePlan getDecodePlan(Type targetType) {
+        DecodePlan plan = decodePlans.get(targetType);
+        if (plan == null) {
+            plan = compileDecodePlan(targetType);
+        }
+        return plan == NO_DECODE_PLAN ? null : plan;
+    }
+
+    private synchronized DecodePlan compileDecodePlan(Type targetType) {
+        DecodePlan plan = decodePlans.get(targetType);
+        if (plan != null) {
+            return plan;
+        }
+        plan = DecodePlanCompiler.compile(schema, targetType);
+        if (plan == null) {
+            plan = NO_DECODE_PLAN;
+        }
+        decodePlans = copyWith(decodePlans, decodeTypeOrder, targetType, plan);
+        return plan;
+    }
+
+    // Copies a map with an added type, dropping the type that was added first when the map is full.
+    private static <V> Map<Type, V> copyWith(Map<Type, V> map, ArrayDeque<Type> order, Type type, V value) {
+        Map<Type, V> copy = new IdentityHashMap<>(map);
+        if (copy.size() >= MAX_TARGET_TYPES) {
+            copy.remove(order.removeFirst());
+        }
+        copy.put(type, value);
+        order.addLast(type);
+        return copy;
+    }
+}
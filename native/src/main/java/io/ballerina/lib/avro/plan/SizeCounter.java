@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+/**
+ * An {@link AvroWriter} that only counts the bytes of the values written to it. Running an encode plan against it
+ * also checks that the plan accepts the value.
+ *
+ * @since 1.2.1
+ */
+final class SizeCounter implements AvroWriter {
+
+    private long count;
+
+    long count() {
+        return count;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void truncate(int size) {
+        count = Math.min(count, size);
+    }
+
+    @Override
+    public void writeBoolean(boolean value) {
+        count++;
+    }
+
+    @Override
+    public void writeInt(int value) {
+        count += varIntSize(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        count += varIntSize((value << 1) ^ (value >> 63));
+    }
+
+    @Override
+    public void writeFloat(float value) {
+        count += Float.BYTES;
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        count += Double.BYTES;
+    }
+
+    @Override
+    public void writeString(String value) {
+        int length = utf8Length(value);
+        writeInt(length);
+        count += length;
+    }
+
+    @Override
+    public void writeFixed(byte[] value, int offset, int length) {
+        count += length;
+    }
+
+    @Override
+    public void writeEnd() {
+        count++;
+    }
+
+    private static int varIntSize(long zigZagValue) {
+        return (64 - Long.numberOfLeadingZeros(zigZagValue | 1) + 6) / 7;
+    }
+
+    // Unpaired surrogates are counted as one byte, as the JDK encoder replaces them with '?'.
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
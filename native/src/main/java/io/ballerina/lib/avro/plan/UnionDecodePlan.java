@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+/**
+ * Reads the value of a union record field with the plan of the branch written in the input.
+ */
+final class UnionDecodePlan extends DecodePlan {
+
+    private final DecodePlan[] branchPlans;
+
+    UnionDecodePlan(DecodePlan[] branchPlans) {
+        this.branchPlans = branchPlans;
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        return readBranch(in).decode(in);
+    }
+
+    @Override
+    DecodeFrame start(ByteReader in) throws Exception {
+        DecodePlan branchPlan = readBranch(in);
+        return new DecodeFrame() {
+            private boolean isRead = false;
+            private Object branchValue;
+
+            @Override
+            DecodePlan next(ByteReader in) {
+                return isRead ? null : branchPlan;
+            }
+
+            @Override
+            void accept(Object value) {
+                branchValue = value;
+                isRead = true;
+            }
+
+            @Override
+            Object finish() {
+                return branchValue;
+            }
+        };
+    }
+
+    private DecodePlan readBranch(ByteReader in) throws Exception {
+        int branch = in.readInt();
+        if (branch < 0 || branch >= branchPlans.length) {
+            throw new Exception("Union index out of range: " + branch);
+        }
+        return branchPlans[branch];
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.utils.TypeUtils;
+
+/**
+ * Writes a value with the first union branch that accepts the type tag of the value. The branch of each type tag
+ * is resolved when the plan is compiled.
+ */
+final class UnionEncodePlan extends EncodePlan {
+
+    private final int[] branchByTag;
+    private final EncodePlan[] branchPlans;
+
+    UnionEncodePlan(int[] branchByTag, EncodePlan[] branchPlans) {
+        this.branchByTag = branchByTag;
+        this.branchPlans = branchPlans;
+    }
+
+    @Override
+    public void encode(Object value, AvroWriter out) throws Exception {
+        int branch = getBranch(value);
+        out.writeInt(branch);
+        branchPlans[branch].encode(value, out);
+    }
+
+    @Override
+    void push(Object value, AvroWriter out, EncodeStack stack) throws Exception {
+        int branch = getBranch(value);
+        out.writeInt(branch);
+        stack.push(branchPlans[branch], value);
+    }
+
+    private int getBranch(Object value) throws Exception {
+        int tag = TypeUtils.getType(value).getTag();
+        int branch = tag < branchByTag.length ? branchByTag[tag] : -1;
+        if (branch < 0) {
+            throw new NotHandledException("Value does not match with the Avro union types");
+        }
+        return branch;
+    }
+}
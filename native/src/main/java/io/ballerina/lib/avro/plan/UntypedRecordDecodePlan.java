@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.plan;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Reads a record as a map of the field values, for {@code anydata} and {@code json} targets.
+ */
+final class UntypedRecordDecodePlan extends DecodePlan {
+
+    private final MapType mapType;
+    private BString[] fieldNames;
+    private DecodePlan[] fieldPlans;
+
+    UntypedRecordDecodePlan(MapType mapType) {
+        this.mapType = mapType;
+    }
+
+    // The fields are set after the plan is created, so that recursive schemas can refer to the plan.
+    void init(BString[] fieldNames, DecodePlan[] fieldPlans) {
+        this.fieldNames = fieldNames;
+        this.fieldPlans = fieldPlans;
+    }
+
+    @Override
+    public Object decode(ByteReader in) throws Exception {
+        BMap<BString, Object> map = ValueCreator.createMapValue(mapType);
+        for (int i = 0; i < fieldPlans.length; i++) {
+            map.put(fieldNames[i], fieldPlans[i].decode(in));
+        }
+        return map;
+    }
+
+    @Override
+    DecodeFrame start(ByteReader in) {
+        BMap<BString, Object> map = ValueCreator.createMapValue(mapType);
+        return new DecodeFrame() {
+            private int index = 0;
+
+            @Override
+            DecodePlan next(ByteReader in) {
+                return index < fieldPlans.length ? fieldPlans[index] : null;
+            }
+
+            @Override
+            void accept(Object value) {
+                map.put(fieldNames[index++], value);
+            }
+
+            @Override
+            Object finish() {
+                return map;
+            }
+        };
+    }
+}
@@ -18,11 +18,16 @@
 
 package io.ballerina.lib.avro.serialize;
 
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
 import org.apache.avro.Schema;
 
 public class MessageFactory {
 
     public static Serializer createMessage(Schema schema) {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            return new LogicalTypeSerializer(schema, converter);
+        }
         return switch (schema.getType()) {
             case ARRAY -> new ArraySerializer(schema);
             case FIXED -> new FixedSerializer(schema);
@@ -18,9 +18,11 @@
 
 package io.ballerina.lib.avro.serialize.visitor;
 
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
 import io.ballerina.lib.avro.serialize.ArraySerializer;
 import io.ballerina.lib.avro.serialize.EnumSerializer;
 import io.ballerina.lib.avro.serialize.FixedSerializer;
+import io.ballerina.lib.avro.serialize.LogicalTypeSerializer;
 import io.ballerina.lib.avro.serialize.MapSerializer;
 import io.ballerina.lib.avro.serialize.MessageFactory;
 import io.ballerina.lib.avro.serialize.PrimitiveSerializer;
@@ -42,7 +44,7 @@ import org.apache.avro.generic.GenericRecord;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,6 +52,10 @@ import java.util.Objects;
 public class SerializeVisitor implements ISerializeVisitor {
 
     public Serializer createSerializer(Schema schema) {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema.getValueType());
+        if (converter != null) {
+            return new LogicalTypeSerializer(schema.getValueType(), converter);
+        }
         return switch (schema.getValueType().getType()) {
             case INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING, BYTES ->
                     new PrimitiveSerializer(schema.getValueType());
@@ -78,7 +84,20 @@ public class SerializeVisitor implements ISerializeVisitor {
         return genericRecord;
     }
 
-    private Object serializeField(Schema schema, Object fieldData) throws Exception {
+    /**
+     * Converts a value with the rules of record fields, which also apply to values of other parts of a schema, such
+     * as the items of an array given as a stream.
+     *
+     * @param schema    the schema of the value
+     * @param fieldData the Ballerina value
+     * @return the Avro value
+     * @throws Exception if the value does not match with the schema
+     */
+    public Object serializeField(Schema schema, Object fieldData) throws Exception {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            return new LogicalTypeSerializer(schema, converter).convert(this, fieldData);
+        }
         Schema.Type type = schema.getType();
         return switch (type) {
             case RECORD ->
@@ -136,8 +155,12 @@ public class SerializeVisitor implements ISerializeVisitor {
         };
     }
 
+    public Object visit(LogicalTypeSerializer logicalTypeSerializer, Object data) throws Exception {
+        return logicalTypeSerializer.getConverter().toAvro(data);
+    }
+
     public Map<String, Object> visit(MapSerializer mapSerializer, BMap<?, ?> data) throws Exception {
-        Map<String, Object> avroMap = new HashMap<>();
+        Map<String, Object> avroMap = new LinkedHashMap<>();
         Schema schema = mapSerializer.getSchema();
         if (schema.getType().equals(Schema.Type.UNION)) {
             for (Schema fieldSchema: schema.getTypes()) {
@@ -191,6 +214,10 @@ public class SerializeVisitor implements ISerializeVisitor {
             }
             default -> tags.add(TypeTags.ANYDATA_TAG);
         }
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema);
+        if (converter != null) {
+            tags.addAll(converter.getBallerinaTags());
+        }
         return tags;
     }
 
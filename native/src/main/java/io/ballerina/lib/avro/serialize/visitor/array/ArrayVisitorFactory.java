@@ -18,10 +18,15 @@
 
 package io.ballerina.lib.avro.serialize.visitor.array;
 
+import io.ballerina.lib.avro.logical.LogicalTypeConverter;
 import org.apache.avro.Schema;
 
 public class ArrayVisitorFactory {
     public static IArrayVisitor createVisitor(Schema schema) {
+        LogicalTypeConverter converter = LogicalTypeConverter.getConverter(schema.getElementType());
+        if (converter != null) {
+            return new LogicalTypeArrayVisitor(converter);
+        }
         switch (schema.getElementType().getType()) {
             case NULL:
                 return null;
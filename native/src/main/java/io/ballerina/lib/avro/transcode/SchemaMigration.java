@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.transcode;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.io.ResolvingDecoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Rewrites Avro encoded messages from a writer schema to the layout of a reader schema.
+ *
+ * @since 1.2.1
+ */
+public final class SchemaMigration {
+
+    private final Schema writerSchema;
+    private final Schema readerSchema;
+    // Building the resolving grammar is expensive, hence the decoders are pooled and reconfigured for each message.
+    private final Queue<ResolvingDecoder> decoders = new ConcurrentLinkedQueue<>();
+
+    public SchemaMigration(Schema writerSchema, Schema readerSchema) {
+        this.writerSchema = writerSchema;
+        this.readerSchema = readerSchema;
+    }
+
+    public byte[] migrate(byte[] data, int offset, int length) throws IOException {
+        BinaryDecoder binaryDecoder = DecoderFactory.get().binaryDecoder(data, offset, length, null);
+        ResolvingDecoder decoder = decoders.poll();
+        if (decoder == null) {
+            decoder = DecoderFactory.get().resolvingDecoder(writerSchema, readerSchema, binaryDecoder);
+        } else {
+            decoder.configure(binaryDecoder);
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(length);
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+        new Transcoder().transcode(readerSchema, decoder, encoder);
+        decoder.drain();
+        encoder.flush();
+        decoders.offer(decoder);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro.transcode;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.io.JsonDecoder;
+import org.apache.avro.io.ResolvingDecoder;
+import org.apache.avro.util.Utf8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Copies a datum from an Avro {@link Decoder} to an Avro {@link Encoder} by walking the schema, without
+ * materializing the datum as generic or Ballerina values.
+ *
+ * @since 1.2.1
+ */
+public final class Transcoder {
+
+    private final Utf8 text = new Utf8();
+    private ByteBuffer bytes;
+
+    public void transcode(Schema schema, Decoder in, Encoder out) throws IOException {
+        switch (schema.getType()) {
+            case RECORD -> transcodeRecord(schema, in, out);
+            case ARRAY -> transcodeArray(schema, in, out);
+            case MAP -> transcodeMap(schema, in, out);
+            case UNION -> {
+                int index = in.readIndex();
+                out.writeIndex(index);
+                transcode(schema.getTypes().get(index), in, out);
+            }
+            case ENUM -> out.writeEnum(in.readEnum());
+            case FIXED -> {
+                byte[] fixed = new byte[schema.getFixedSize()];
+                in.readFixed(fixed);
+                out.writeFixed(fixed);
+            }
+            case STRING -> out.writeString(in.readString(text));
+            case BYTES -> {
+                bytes = in.readBytes(bytes);
+                out.writeBytes(bytes);
+            }
+            case INT -> out.writeInt(in.readInt());
+            case LONG -> out.writeLong(in.readLong());
+            case FLOAT -> out.writeFloat(in.readFloat());
+            case DOUBLE -> out.writeDouble(in.readDouble());
+            case BOOLEAN -> out.writeBoolean(in.readBoolean());
+            case NULL -> {
+                in.readNull();
+                out.writeNull();
+            }
+            default -> throw new IOException("Unsupported schema type: " + schema.getType());
+        }
+    }
+
+    private void transcodeRecord(Schema schema, Decoder in, Encoder out) throws IOException {
+        if (!(in instanceof ResolvingDecoder resolvingDecoder)) {
+            for (Schema.Field field : schema.getFields()) {
+                transcode(field.schema(), in, out);
+            }
+            return;
+        }
+        Schema.Field[] fieldOrder = resolvingDecoder.readFieldOrder();
+        if (isInSchemaOrder(fieldOrder)) {
+            for (Schema.Field field : fieldOrder) {
+                transcode(field.schema(), in, out);
+            }
+            return;
+        }
+        if (!(out instanceof BinaryEncoder)) {
+            throw new IOException("Reordered record fields can only be written to a binary encoder");
+        }
+        // The writer schema stores the fields in a different order, so each field is encoded separately and
+        // the encoded fields are written in the order of the reader schema.
+        byte[][] fieldValues = new byte[fieldOrder.length][];
+        for (Schema.Field field : fieldOrder) {
+            ByteArrayOutputStream fieldStream = new ByteArrayOutputStream();
+            BinaryEncoder fieldEncoder = EncoderFactory.get().directBinaryEncoder(fieldStream, null);
+            transcode(field.schema(), in, fieldEncoder);
+            fieldEncoder.flush();
+            fieldValues[field.pos()] = fieldStream.toByteArray();
+        }
+        for (byte[] fieldValue : fieldValues) {
+            out.writeFixed(fieldValue);
+        }
+    }
+
+    private static boolean isInSchemaOrder(Schema.Field[] fieldOrder) {
+        for (int i = 0; i < fieldOrder.length; i++) {
+            if (fieldOrder[i].pos() != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void transcodeArray(Schema schema, Decoder in, Encoder out) throws IOException {
+        Schema elementSchema = schema.getElementType();
+        if (isItemwise(in, out)) {
+            coalesceBlocks(elementSchema, false, in, out);
+            return;
+        }
+        out.writeArrayStart();
+        for (long count = in.readArrayStart(); count > 0; count = in.arrayNext()) {
+            out.setItemCount(count);
+            for (long i = 0; i < count; i++) {
+                out.startItem();
+                transcode(elementSchema, in, out);
+            }
+        }
+        out.writeArrayEnd();
+    }
+
+    private void transcodeMap(Schema schema, Decoder in, Encoder out) throws IOException {
+        Schema valueSchema = schema.getValueType();
+        if (isItemwise(in, out)) {
+            coalesceBlocks(valueSchema, true, in, out);
+            return;
+        }
+        out.writeMapStart();
+        for (long count = in.readMapStart(); count > 0; count = in.mapNext()) {
+            out.setItemCount(count);
+            for (long i = 0; i < count; i++) {
+                out.startItem();
+                out.writeString(in.readString(text));
+                transcode(valueSchema, in, out);
+            }
+        }
+        out.writeMapEnd();
+    }
+
+    // The JSON decoder reports every array or map item as a block of its own. Those items are collected into a
+    // single block so that the binary output matches what the binary encoder produces for the same datum.
+    private static boolean isItemwise(Decoder in, Encoder out) {
+        return in instanceof JsonDecoder && out instanceof BinaryEncoder;
+    }
+
+    private void coalesceBlocks(Schema itemSchema, boolean isMap, Decoder in, Encoder out) throws IOException {
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        BinaryEncoder blockEncoder = EncoderFactory.get().directBinaryEncoder(block, null);
+        long total = 0;
+        long count = isMap ? in.readMapStart() : in.readArrayStart();
+        while (count > 0) {
+            for (long i = 0; i < count; i++) {
+                if (isMap) {
+                    blockEncoder.writeString(in.readString(text));
+                }
+                transcode(itemSchema, in, blockEncoder);
+            }
+            total += count;
+            count = isMap ? in.mapNext() : in.arrayNext();
+        }
+        blockEncoder.flush();
+        if (total > 0) {
+            out.writeLong(total);
+            out.writeFixed(block.toByteArray());
+        }
+        out.writeLong(0);
+    }
+}
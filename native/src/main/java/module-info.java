@@ -21,4 +21,5 @@ module io.ballerina.stdlib.serdes {
     requires io.ballerina.lang;
     requires com.fasterxml.jackson.databind;
     requires org.apache.avro;
+    requires jdk.jfr;
 }
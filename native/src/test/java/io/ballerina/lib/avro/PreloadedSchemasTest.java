@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import org.apache.avro.Schema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.ballerina.lib.avro.Utils.getSchemaKey;
+
+/**
+ * Tests the schemas preloaded from the files listed in the {@code ballerina.avro.preloadedSchemas} system property.
+ * The property is set by the build to the student schema.
+ */
+public class PreloadedSchemasTest {
+
+    private static final String STUDENT_SCHEMA = "src/test/resources/schemas/student.avsc";
+
+    @Test
+    public void testPreloadedSchema() throws IOException {
+        String schemaText = Files.readString(Path.of(STUDENT_SCHEMA));
+        Schema schema = PreloadedSchemas.get(getSchemaKey(schemaText));
+        Assert.assertNotNull(schema);
+        Assert.assertEquals(schema.getFullName(), "example.avro.Student");
+        Assert.assertSame(PreloadedSchemas.get(getSchemaKey(schemaText.replace("\n", ""))), schema);
+    }
+
+    @Test
+    public void testSchemaNotPreloaded() {
+        Assert.assertNull(PreloadedSchemas.get(getSchemaKey("{\"type\": \"int\"}")));
+    }
+
+    @Test
+    public void testMissingSchemaFile() throws IOException {
+        String missingSchema = "src/test/resources/schemas/missing.avsc";
+        PreloadedSchemas preloaded = PreloadedSchemas.load(STUDENT_SCHEMA + "," + missingSchema);
+        String schemaKey = getSchemaKey(Files.readString(Path.of(STUDENT_SCHEMA)));
+        IllegalStateException e = Assert.expectThrows(IllegalStateException.class, () -> preloaded.find(schemaKey));
+        Assert.assertTrue(e.getMessage().contains(missingSchema));
+    }
+}
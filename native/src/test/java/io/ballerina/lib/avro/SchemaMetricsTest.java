@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.noop.NoOpCounter;
+import io.ballerina.runtime.observability.metrics.noop.NoOpGauge;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests the metrics of a schema against a registry that keeps the values of its counters and gauges.
+ */
+public class SchemaMetricsTest {
+
+    private static final String SCHEMA_NAME = "example.avro.Student";
+
+    private RecordingMetricProvider provider;
+    private SchemaMetrics metrics;
+
+    @BeforeMethod
+    public void setUp() {
+        provider = new RecordingMetricProvider();
+        metrics = new SchemaMetrics(SCHEMA_NAME, new MetricRegistry(provider));
+    }
+
+    @Test
+    public void testMetricTags() {
+        Assert.assertEquals(provider.counters.size(), 4);
+        Assert.assertEquals(provider.gauges.size(), 4);
+        for (String operation : List.of("toAvro", "fromAvro")) {
+            Set<Tag> tags = Set.of(Tag.of("avro.schema", SCHEMA_NAME), Tag.of("avro.operation", operation));
+            for (String name : List.of("avro_calls_total", "avro_errors_total")) {
+                Assert.assertEquals(counter(name, operation).getId().getTags(), tags);
+            }
+            for (String name : List.of("avro_latency_seconds", "avro_payload_size_bytes")) {
+                Assert.assertEquals(gauge(name, operation).getId().getTags(), tags);
+            }
+        }
+    }
+
+    @Test
+    public void testRecordEncode() {
+        metrics.recordEncode(System.nanoTime(), 42);
+        metrics.recordEncode(System.nanoTime(), 7);
+        Assert.assertEquals(counter("avro_calls_total", "toAvro").getValue(), 2);
+        Assert.assertEquals(counter("avro_errors_total", "toAvro").getValue(), 0);
+        Assert.assertEquals(gauge("avro_payload_size_bytes", "toAvro").getValue(), 7.0);
+        Assert.assertTrue(gauge("avro_latency_seconds", "toAvro").getValue() >= 0);
+        Assert.assertEquals(counter("avro_calls_total", "fromAvro").getValue(), 0);
+    }
+
+    @Test
+    public void testRecordEncodeError() {
+        metrics.recordEncodeError(System.nanoTime());
+        Assert.assertEquals(counter("avro_calls_total", "toAvro").getValue(), 1);
+        Assert.assertEquals(counter("avro_errors_total", "toAvro").getValue(), 1);
+        Assert.assertEquals(counter("avro_errors_total", "fromAvro").getValue(), 0);
+    }
+
+    @Test
+    public void testRecordDecode() {
+        metrics.recordDecode(System.nanoTime(), 16);
+        Assert.assertEquals(counter("avro_calls_total", "fromAvro").getValue(), 1);
+        Assert.assertEquals(counter("avro_errors_total", "fromAvro").getValue(), 0);
+        Assert.assertEquals(gauge("avro_payload_size_bytes", "fromAvro").getValue(), 16.0);
+        Assert.assertEquals(counter("avro_calls_total", "toAvro").getValue(), 0);
+    }
+
+    @Test
+    public void testRecordDecodeError() {
+        metrics.recordDecode(System.nanoTime(), 16);
+        metrics.recordDecodeError(System.nanoTime());
+        Assert.assertEquals(counter("avro_calls_total", "fromAvro").getValue(), 2);
+        Assert.assertEquals(counter("avro_errors_total", "fromAvro").getValue(), 1);
+        Assert.assertEquals(counter("avro_errors_total", "toAvro").getValue(), 0);
+    }
+
+    private RecordingCounter counter(String name, String operation) {
+        return provider.counters.stream().filter(counter -> matches(counter.getId(), name, operation))
+                .findFirst().orElseThrow();
+    }
+
+    private RecordingGauge gauge(String name, String operation) {
+        return provider.gauges.stream().filter(gauge -> matches(gauge.getId(), name, operation))
+                .findFirst().orElseThrow();
+    }
+
+    private static boolean matches(MetricId id, String name, String operation) {
+        return id.getName().equals(name) && id.getTags().contains(Tag.of("avro.operation", operation));
+    }
+
+    private static final class RecordingMetricProvider extends NoOpMetricProvider {
+
+        private final List<RecordingCounter> counters = new ArrayList<>();
+        private final List<RecordingGauge> gauges = new ArrayList<>();
+
+        @Override
+        public Counter newCounter(MetricId metricId) {
+            RecordingCounter counter = new RecordingCounter(metricId);
+            counters.add(counter);
+            return counter;
+        }
+
+        @Override
+        public Gauge newGauge(MetricId metricId, StatisticConfig... statisticConfigs) {
+            RecordingGauge gauge = new RecordingGauge(metricId);
+            gauges.add(gauge);
+            return gauge;
+        }
+    }
+
+    private static final class RecordingCounter extends NoOpCounter {
+
+        private long value;
+
+        RecordingCounter(MetricId id) {
+            super(id);
+        }
+
+        @Override
+        public void increment() {
+            increment(1);
+        }
+
+        @Override
+        public void increment(long amount) {
+            value += amount;
+        }
+
+        @Override
+        public long getValue() {
+            return value;
+        }
+    }
+
+    private static final class RecordingGauge extends NoOpGauge {
+
+        private double value;
+
+        RecordingGauge(MetricId id) {
+            super(id);
+        }
+
+        @Override
+        public void setValue(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double getValue() {
+            return value;
+        }
+    }
+}
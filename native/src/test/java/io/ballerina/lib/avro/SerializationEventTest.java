@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.avro;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.avro.Schema;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests the phases recorded as {@link SerializationEvent}s in a Java Flight Recorder recording.
+ */
+public class SerializationEventTest {
+
+    private static final Schema SCHEMA = new Schema.Parser().parse(
+            "{\"type\": \"record\", \"name\": \"Student\", \"namespace\": \"example.avro\", \"fields\": "
+                    + "[{\"name\": \"name\", \"type\": \"string\"}]}");
+
+    @AfterMethod
+    public void resetThresholds() {
+        SerializationEvent.setThresholds(20_000_000, 1024 * 1024);
+    }
+
+    @Test
+    public void testPhaseBelowThresholds() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            SerializationEvent event = SerializationEvent.start();
+            event.complete();
+            event.report(SerializationEvent.ENCODE, SerializationEvent.PLAN, SCHEMA, 16, null);
+        });
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testPhaseAboveSizeThreshold() throws IOException {
+        SerializationEvent.setThresholds(Long.MAX_VALUE, 16);
+        List<RecordedEvent> events = record(() -> {
+            SerializationEvent event = SerializationEvent.start();
+            event.complete();
+            event.report(SerializationEvent.DECODE, SerializationEvent.READ, SCHEMA, 16, null);
+        });
+        Assert.assertEquals(events.size(), 1);
+        RecordedEvent event = events.get(0);
+        Assert.assertEquals(event.getString("operation"), SerializationEvent.DECODE);
+        Assert.assertEquals(event.getString("phase"), SerializationEvent.READ);
+        Assert.assertEquals(event.getString("schemaName"), "example.avro.Student");
+        Assert.assertEquals(event.getLong("payloadSize"), 16);
+        Assert.assertFalse(event.getBoolean("failed"));
+    }
+
+    @Test
+    public void testPhaseAboveLatencyThreshold() throws IOException {
+        SerializationEvent.setThresholds(0, Long.MAX_VALUE);
+        List<RecordedEvent> events = record(() -> {
+            SerializationEvent event = SerializationEvent.start();
+            event.complete();
+            event.report(SerializationEvent.ENCODE, SerializationEvent.COMPRESSION, SCHEMA, 16, null);
+        });
+        Assert.assertEquals(events.size(), 1);
+        Assert.assertEquals(events.get(0).getString("phase"), SerializationEvent.COMPRESSION);
+    }
+
+    @Test
+    public void testFailedPhase() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            SerializationEvent event = SerializationEvent.start();
+            try {
+                throw new IllegalStateException("failed");
+            } catch (IllegalStateException e) {
+                // The phase is reported without being completed.
+            } finally {
+                event.report(SerializationEvent.ENCODE, SerializationEvent.BUILD, SCHEMA, 0, null);
+            }
+        });
+        Assert.assertEquals(events.size(), 1);
+        Assert.assertEquals(events.get(0).getString("phase"), SerializationEvent.BUILD);
+        Assert.assertTrue(events.get(0).getBoolean("failed"));
+    }
+
+    private static List<RecordedEvent> record(Runnable phases) throws IOException {
+        Path file = Files.createTempFile("avro", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SerializationEvent.class);
+            recording.start();
+            phases.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}